@@ -0,0 +1,10 @@
+package com.bookinline.bookinline.cache;
+
+import java.io.Serializable;
+
+/**
+ * Broadcast to every instance when an entry is evicted so that near caches on other nodes drop it too.
+ * A {@code null} key means the whole cache was cleared.
+ */
+public record CacheEvictionMessage(String instanceId, String cacheName, Object key) implements Serializable {
+}
@@ -0,0 +1,9 @@
+package com.bookinline.bookinline.cache;
+
+public final class CacheNames {
+    public static final String PROPERTIES = "properties";
+    public static final String AVAILABLE_PROPERTIES = "availableProperties";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.bookinline.bookinline.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Reuses presigned GET URLs instead of computing a SigV4 signature on every request. URLs are cached
+ * per (object key, requested expiry) and signed for the requested expiry plus
+ * {@code cloud.aws.s3.presigned-url-cache.reuse-window}; an entry is only handed out during that window,
+ * so every caller still receives a URL that stays valid for at least the expiry it asked for.
+ */
+@Component
+public class PresignedUrlCache {
+    // SigV4 presigned URLs cannot be valid for longer than seven days
+    private static final Duration MAX_SIGNATURE_DURATION = Duration.ofDays(7);
+
+    private record ExpiryBucket(String key, int expirationInMinutes) {
+    }
+
+    private final boolean enabled;
+    private final Duration reuseWindow;
+    private final Cache<ExpiryBucket, String> urls;
+
+    public PresignedUrlCache(@Value("${cloud.aws.s3.presigned-url-cache.enabled:true}") boolean enabled,
+                             @Value("${cloud.aws.s3.presigned-url-cache.reuse-window:PT10M}") Duration reuseWindow,
+                             @Value("${cloud.aws.s3.presigned-url-cache.max-size:50000}") long maxSize,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.reuseWindow = reuseWindow;
+        this.urls = Caffeine.newBuilder()
+                .expireAfterWrite(reuseWindow)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, urls, "presignedUrls");
+    }
+
+    /**
+     * Returns a cached URL for the key or calls {@code signer} with the signature duration to use.
+     */
+    public String get(String key, int expirationInMinutes, Function<Duration, String> signer) {
+        Duration requested = Duration.ofMinutes(expirationInMinutes);
+        Duration signed = requested.plus(reuseWindow);
+        if (!enabled || signed.compareTo(MAX_SIGNATURE_DURATION) > 0) {
+            return signer.apply(requested);
+        }
+        return urls.get(new ExpiryBucket(key, expirationInMinutes), bucket -> signer.apply(signed));
+    }
+}
@@ -0,0 +1,75 @@
+package com.bookinline.bookinline.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single place that invalidates cached property reads after a write. Evictions run after the
+ * surrounding transaction commits, so a concurrent read cannot repopulate the cache with old rows.
+ */
+@Component
+public class PropertyCacheEvictor {
+    private static final Logger logger = LoggerFactory.getLogger(PropertyCacheEvictor.class);
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    public PropertyCacheEvictor(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void evictProperty(Long propertyId) {
+        afterCommit(() -> {
+            logger.debug("Evicting cached property with ID: {}", propertyId);
+            evict(CacheNames.PROPERTIES, propertyId);
+            clear(CacheNames.AVAILABLE_PROPERTIES);
+        });
+    }
+
+    public void evictListings() {
+        afterCommit(() -> clear(CacheNames.AVAILABLE_PROPERTIES));
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            clear(CacheNames.PROPERTIES);
+            clear(CacheNames.AVAILABLE_PROPERTIES);
+        });
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            meterRegistry.counter("cache.invalidations", "cache", cacheName, "scope", "entry").increment();
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+            meterRegistry.counter("cache.invalidations", "cache", cacheName, "scope", "all").increment();
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
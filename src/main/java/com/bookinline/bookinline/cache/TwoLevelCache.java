@@ -0,0 +1,123 @@
+package com.bookinline.bookinline.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache that reads through a small in-process near cache before falling back to the shared remote cache.
+ * Writes go to both tiers; evictions are applied to both tiers and published so other instances can
+ * drop their near copies.
+ */
+public class TwoLevelCache implements Cache {
+    private final String name;
+    private final Cache nearCache;
+    private final Cache remoteCache;
+    private final BiConsumer<String, Object> evictionPublisher;
+
+    public TwoLevelCache(String name, Cache nearCache, Cache remoteCache,
+                         BiConsumer<String, Object> evictionPublisher) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.evictionPublisher = evictionPublisher;
+    }
+
+    public Cache getNearCache() {
+        return nearCache;
+    }
+
+    public Cache getRemoteCache() {
+        return remoteCache;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = nearCache.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = remoteCache.get(key);
+        if (value != null) {
+            nearCache.put(key, value.get());
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object cached = value.get();
+        if (cached != null && type != null && !type.isInstance(cached)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + cached);
+        }
+        return (T) cached;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        nearCache.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        nearCache.put(key, existing != null ? existing.get() : value);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        nearCache.evict(key);
+        evictionPublisher.accept(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        nearCache.clear();
+        evictionPublisher.accept(name, null);
+    }
+
+    public void evictLocal(Object key) {
+        nearCache.evict(key);
+    }
+
+    public void clearLocal() {
+        nearCache.clear();
+    }
+}
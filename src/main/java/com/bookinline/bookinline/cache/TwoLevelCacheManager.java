@@ -0,0 +1,84 @@
+package com.bookinline.bookinline.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.AbstractCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds {@link TwoLevelCache}s from a Caffeine near cache and the Redis cache of the same name, and keeps
+ * near caches coherent across instances through the {@code evictionChannel} pub/sub channel.
+ */
+public class TwoLevelCacheManager extends AbstractCacheManager implements MessageListener {
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Caffeine<Object, Object> nearCacheBuilder;
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String evictionChannel;
+    private final Collection<String> cacheNames;
+
+    public TwoLevelCacheManager(Caffeine<Object, Object> nearCacheBuilder,
+                                RedisCacheManager redisCacheManager,
+                                RedisTemplate<String, Object> redisTemplate,
+                                String evictionChannel,
+                                Collection<String> cacheNames) {
+        this.nearCacheBuilder = nearCacheBuilder;
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.evictionChannel = evictionChannel;
+        this.cacheNames = List.copyOf(cacheNames);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return cacheNames.stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(body instanceof CacheEvictionMessage eviction) || instanceId.equals(eviction.instanceId())) {
+            return;
+        }
+        if (!(lookupCache(eviction.cacheName()) instanceof TwoLevelCache cache)) {
+            return;
+        }
+        logger.debug("Evicting near cache entry {} from cache {} on request of instance {}",
+                eviction.key(), eviction.cacheName(), eviction.instanceId());
+        if (eviction.key() == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(eviction.key());
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CaffeineCache nearCache = new CaffeineCache(name, nearCacheBuilder.build(), false);
+        return new TwoLevelCache(name, nearCache, redisCacheManager.getCache(name), this::publishEviction);
+    }
+
+    private void publishEviction(String cacheName, Object key) {
+        try {
+            redisTemplate.convertAndSend(evictionChannel, new CacheEvictionMessage(instanceId, cacheName, key));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to publish eviction of {} from cache {}: {}", key, cacheName, e.getMessage());
+        }
+    }
+}
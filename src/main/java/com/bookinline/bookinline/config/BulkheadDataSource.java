@@ -0,0 +1,139 @@
+package com.bookinline.bookinline.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of connections checked out of the pool with a fair semaphore. With virtual threads the
+ * request count is no longer bounded by the servlet pool, so callers queue here, in arrival order and for at
+ * most {@code acquireTimeout}, instead of piling onto the pool and the database. A permit is held until the
+ * connection is closed: for the duration of a transaction, or of a single repository call outside one. This only
+ * caps database work while open-in-view stays off; with it on, every request would hold a permit until the
+ * response is written.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements MeterBinder {
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public BulkheadDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("db.bulkhead.permits.available", permits, Semaphore::availablePermits)
+                .description("Connections that can still be checked out without waiting")
+                .register(registry);
+        Gauge.builder("db.bulkhead.permits.max", () -> maxConcurrent)
+                .register(registry);
+        Gauge.builder("db.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("Threads queued for a connection permit")
+                .register(registry);
+        FunctionTimer.builder("db.bulkhead.wait", this,
+                        bulkhead -> bulkhead.acquisitions.sum(),
+                        bulkhead -> bulkhead.waitNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Time spent waiting for a connection permit")
+                .register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", rejections, LongAdder::sum)
+                .description("Connection requests that timed out waiting for a permit")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+        waitNanos.add(System.nanoTime() - started);
+        if (!acquired) {
+            rejections.increment();
+            throw new SQLTransientConnectionException("Database bulkhead is full, no connection permit within "
+                    + Duration.ofNanos(acquireTimeoutNanos).toMillis() + " ms");
+        }
+        acquisitions.increment();
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "getTargetConnection":
+                            return connection;
+                        case "close":
+                            if (released.compareAndSet(false, true)) {
+                                try {
+                                    connection.close();
+                                } finally {
+                                    permits.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
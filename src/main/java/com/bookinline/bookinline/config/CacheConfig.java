@@ -0,0 +1,89 @@
+package com.bookinline.bookinline.config;
+
+import com.bookinline.bookinline.cache.CacheNames;
+import com.bookinline.bookinline.cache.TwoLevelCache;
+import com.bookinline.bookinline.cache.TwoLevelCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+public class CacheConfig {
+    @Value("${cache.near.ttl:PT30S}")
+    private Duration nearTtl;
+    @Value("${cache.near.max-size:10000}")
+    private long nearMaxSize;
+    @Value("${cache.redis.ttl:PT10M}")
+    private Duration redisTtl;
+    @Value("${cache.eviction-channel:bookinline:cache-evictions}")
+    private String evictionChannel;
+
+    @Bean
+    public RedisTemplate<String, Object> cacheEvictionRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new JdkSerializationRedisSerializer());
+        return template;
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             RedisTemplate<String, Object> cacheEvictionRedisTemplate) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().entryTtl(redisTtl))
+                .enableStatistics()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        Caffeine<Object, Object> nearCacheBuilder = Caffeine.newBuilder()
+                .expireAfterWrite(nearTtl)
+                .maximumSize(nearMaxSize)
+                .recordStats();
+
+        return new TwoLevelCacheManager(nearCacheBuilder, redisCacheManager, cacheEvictionRedisTemplate,
+                evictionChannel, List.of(CacheNames.PROPERTIES, CacheNames.AVAILABLE_PROPERTIES));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheEvictionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(evictionChannel));
+        return container;
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            if (cache.getNearCache() instanceof CaffeineCache nearCache) {
+                new CaffeineCacheMetrics<>(nearCache.getNativeCache(), cache.getName(),
+                        Tags.of(tags).and("tier", "near")).bindTo(registry);
+            }
+            if (cache.getRemoteCache() instanceof RedisCache remoteCache) {
+                new RedisCacheMetrics(remoteCache, Tags.of(tags).and("tier", "redis")).bindTo(registry);
+            }
+        };
+    }
+}
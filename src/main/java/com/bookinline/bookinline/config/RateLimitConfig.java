@@ -0,0 +1,43 @@
+package com.bookinline.bookinline.config;
+
+import com.bookinline.bookinline.security.ratelimit.InMemoryRateLimiterStore;
+import com.bookinline.bookinline.security.ratelimit.RateLimiterStore;
+import com.bookinline.bookinline.security.ratelimit.RedisRateLimiterStore;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.cluster.RedisClusterClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+    @Bean
+    @ConditionalOnProperty(name = "bucket4j.backend", havingValue = "memory", matchIfMissing = true)
+    public RateLimiterStore inMemoryRateLimiterStore(@Value("${bucket4j.memory.max-size:100000}") long maxSize,
+                                                     @Value("${bucket4j.memory.idle-timeout:PT2H}") Duration idleTimeout) {
+        return new InMemoryRateLimiterStore(maxSize, idleTimeout);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bucket4j.backend", havingValue = "redis")
+    public RateLimiterStore redisRateLimiterStore(LettuceConnectionFactory connectionFactory) {
+        AbstractRedisClient client = connectionFactory.getRequiredNativeClient();
+        LettuceBasedProxyManager<byte[]> proxyManager = (client instanceof RedisClusterClient clusterClient
+                ? LettuceBasedProxyManager.builderFor(clusterClient)
+                : LettuceBasedProxyManager.builderFor((RedisClient) client))
+                .withExpirationStrategy(ExpirationAfterWriteStrategy
+                        .basedOnTimeForRefillingBucketUpToMax(Duration.ofMinutes(1)))
+                .build();
+        ProxyManager<String> stringKeys = proxyManager.withMapper(key -> key.getBytes(StandardCharsets.UTF_8));
+        return new RedisRateLimiterStore(stringKeys);
+    }
+}
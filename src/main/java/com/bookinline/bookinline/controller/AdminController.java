@@ -301,6 +301,7 @@ public class AdminController {
                     - **Endpoint**: `/api/admin/users`
                     - **Method**: `GET`
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves all users with pagination.
@@ -312,9 +313,12 @@ public class AdminController {
             })
     public ResponseEntity<UserResponsePage> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        UserResponsePage userResponsePage = adminService.getAllUsers(page, size, adminId);
+        UserResponsePage userResponsePage = after != null
+                ? adminService.scrollAllUsers(after, size, adminId)
+                : adminService.getAllUsers(page, size, adminId);
         return ResponseEntity.ok(userResponsePage);
     }
 
@@ -325,6 +329,7 @@ public class AdminController {
                     - **Endpoint**: `/api/admin/properties`
                     - **Method**: `GET`
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves all properties with pagination.
@@ -336,9 +341,12 @@ public class AdminController {
             })
     public ResponseEntity<PropertyResponsePage> getAllProperties(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        PropertyResponsePage propertyResponsePage = adminService.getAllProperties(page, size, adminId);
+        PropertyResponsePage propertyResponsePage = after != null
+                ? adminService.scrollAllProperties(after, size, adminId)
+                : adminService.getAllProperties(page, size, adminId);
         return ResponseEntity.ok(propertyResponsePage);
     }
 
@@ -349,6 +357,7 @@ public class AdminController {
                     - **Endpoint**: `/api/admin/bookings`
                     - **Method**: `GET`
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves all bookings with pagination.
@@ -360,9 +369,12 @@ public class AdminController {
             })
     public ResponseEntity<BookingResponsePage> getAllBookings(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        BookingResponsePage bookingResponsePage = adminService.getAllBookings(page, size, adminId);
+        BookingResponsePage bookingResponsePage = after != null
+                ? adminService.scrollAllBookings(after, size, adminId)
+                : adminService.getAllBookings(page, size, adminId);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -373,6 +385,7 @@ public class AdminController {
                     - **Endpoint**: `/api/admin/reviews`
                     - **Method**: `GET`
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves all reviews with pagination.
@@ -384,9 +397,12 @@ public class AdminController {
             })
     public ResponseEntity<ReviewResponsePage> getAllReviews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        ReviewResponsePage reviewResponsePage = adminService.getAllReviews(page, size, adminId);
+        ReviewResponsePage reviewResponsePage = after != null
+                ? adminService.scrollAllReviews(after, size, adminId)
+                : adminService.getAllReviews(page, size, adminId);
         return ResponseEntity.ok(reviewResponsePage);
     }
 
@@ -398,6 +414,7 @@ public class AdminController {
                     - **Method**: `GET`
                     - **Path Variable**: `status` (String) - Status of the users to filter
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves users by status with pagination.
@@ -410,9 +427,12 @@ public class AdminController {
     public ResponseEntity<UserResponsePage> getUsersByStatus(
             @PathVariable String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        UserResponsePage userResponsePage = adminService.getUsersByStatus(status, page, size, adminId);
+        UserResponsePage userResponsePage = after != null
+                ? adminService.scrollUsersByStatus(status, after, size, adminId)
+                : adminService.getUsersByStatus(status, page, size, adminId);
         return ResponseEntity.ok(userResponsePage);
     }
 
@@ -424,6 +444,7 @@ public class AdminController {
                     - **Method**: `GET`
                     - **Path Variable**: `type` (String) - Type of the properties to filter
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves properties by type with pagination.
@@ -436,9 +457,12 @@ public class AdminController {
     public ResponseEntity<PropertyResponsePage> getPropertiesByPropertyType(
             @PathVariable String type,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        PropertyResponsePage propertyResponsePage = adminService.getPropertiesByPropertyType(type, page, size, adminId);
+        PropertyResponsePage propertyResponsePage = after != null
+                ? adminService.scrollPropertiesByPropertyType(type, after, size, adminId)
+                : adminService.getPropertiesByPropertyType(type, page, size, adminId);
         return ResponseEntity.ok(propertyResponsePage);
     }
 
@@ -450,6 +474,7 @@ public class AdminController {
                     - **Method**: `GET`
                     - **Path Variable**: `status` (String) - Status of the bookings to filter
                     - **Request Parameters**: `page` (int), `size` (int) - Pagination parameters
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Checks authenticated admin ID.
                     2. Retrieves bookings by status with pagination.
@@ -462,9 +487,12 @@ public class AdminController {
     public ResponseEntity<BookingResponsePage> getBookingsByStatus(
             @PathVariable String status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long adminId = getAuthenticatedAdminId();
-        BookingResponsePage bookingResponsePage = adminService.getBookingsByStatus(status, page, size, adminId);
+        BookingResponsePage bookingResponsePage = after != null
+                ? adminService.scrollBookingsByStatus(status, after, size, adminId)
+                : adminService.getBookingsByStatus(status, page, size, adminId);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -1,9 +1,11 @@
 package com.bookinline.bookinline.controller;
 
+import com.bookinline.bookinline.dto.AvailabilityCalendarDto;
 import com.bookinline.bookinline.dto.BookingDatesDto;
 import com.bookinline.bookinline.dto.BookingRequestDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.CalendarWindowDto;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.exception.ErrorObject;
 import com.bookinline.bookinline.exception.UnauthorizedActionException;
@@ -16,19 +18,27 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/bookings")
 @Tag(name = "Booking", description = "Endpoints for managing bookings")
 public class BookingController {
+    // Clients must revalidate on every use, but shared caches may keep the calendar
+    private static final CacheControl CALENDAR_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final BookingService bookingService;
     @Autowired
     public BookingController(BookingService bookingService) {
@@ -134,6 +144,7 @@ public class BookingController {
                     - **Endpoint**: `/api/bookings/user`
                     - **Method**: `GET`
                     - **Query Parameters**: `page` and `size` for pagination
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user (with guest role) sends a request to retrieve their bookings.
                     2. The server retrieves the authenticated user's ID from the security context.
@@ -146,9 +157,12 @@ public class BookingController {
             }
     )
     public ResponseEntity<BookingResponsePage> getBookingsByUserId(@RequestParam(defaultValue = "0") int page,
-                                                                   @RequestParam(defaultValue = "10") int size) {
+                                                                   @RequestParam(defaultValue = "10") int size,
+                                                                   @RequestParam(required = false) String after) {
         Long userId = getAuthenticatedUserId();
-        BookingResponsePage bookingResponsePage = bookingService.getBookingsByUserId(userId, page, size);
+        BookingResponsePage bookingResponsePage = after != null
+                ? bookingService.scrollBookingsByUserId(userId, after, size)
+                : bookingService.getBookingsByUserId(userId, page, size);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -160,6 +174,7 @@ public class BookingController {
                     - **Endpoint**: `/api/bookings/property/{propertyId}`
                     - **Method**: `GET`
                     - **Path Variable**: `propertyId` of the property to retrieve bookings for && `page` and `size` for pagination
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user (with host role) sends a request to retrieve bookings for a specific property.
                     2. The server retrieves the authenticated user's ID from the security context.
@@ -179,9 +194,12 @@ public class BookingController {
     )
     public ResponseEntity<BookingResponsePage> getBookingsByPropertyId(@PathVariable Long propertyId,
                                                                         @RequestParam(defaultValue = "0") int page,
-                                                                        @RequestParam(defaultValue = "10") int size) {
+                                                                        @RequestParam(defaultValue = "10") int size,
+                                                                        @RequestParam(required = false) String after) {
         Long userId = getAuthenticatedUserId();
-        BookingResponsePage bookingResponsePage = bookingService.getBookingsByPropertyId(propertyId, userId, page, size);
+        BookingResponsePage bookingResponsePage = after != null
+                ? bookingService.scrollBookingsByPropertyId(propertyId, userId, after, size)
+                : bookingService.getBookingsByPropertyId(propertyId, userId, page, size);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -210,6 +228,62 @@ public class BookingController {
         return ResponseEntity.ok(bookedDates);
     }
 
+    @GetMapping("/property/{propertyId}/calendar")
+    @Operation(summary = "Get availability calendar for property",
+            description = """
+                    Detailed description of the availability calendar retrieval process.
+                    - **Endpoint**: `/api/bookings/property/{propertyId}/calendar`
+                    - **Method**: `GET`
+                    - **Path Variable**: `propertyId` of the property to retrieve the calendar for
+                    - **Query Parameters**: optional `from` and `to` (ISO dates, `to` exclusive); the window defaults
+                    to the next 12 months, starts no earlier than today and spans at most 24 months
+                    
+                    1. Any user sends a request to retrieve the availability calendar for a specific property.
+                    2. The system checks if the property exists and the window is valid.
+                    3. The system merges 'PENDING' and 'CONFIRMED' bookings into occupied `[checkIn, checkOut)` ranges
+                    clipped to the window.
+                    4. The system returns the ranges with an `ETag` built from the property's booking version, which
+                    moves with every booking, cancellation, confirmation and expiry of the property, and the served
+                    window, so it also changes once a day; a request with a matching `If-None-Match` header gets
+                    `304 Not Modified` without a body, before the ranges are read.
+                    """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Availability calendar retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "Availability calendar not modified"),
+                    @ApiResponse(responseCode = "400", description = "Invalid calendar window",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class))),
+                    @ApiResponse(responseCode = "404", description = "Property not found",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class)))
+            }
+    )
+    public ResponseEntity<AvailabilityCalendarDto> getAvailabilityCalendar(
+            @PathVariable Long propertyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        // Version first: a booking committed before the calendar is read only makes the body newer than its tag
+        long bookingVersion = bookingService.getBookingVersion(propertyId);
+        CalendarWindowDto window = bookingService.resolveCalendarWindow(from, to);
+        String eTag = calendarETag(propertyId, bookingVersion, window);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CALENDAR_CACHE_CONTROL)
+                    .eTag(eTag)
+                    .build();
+        }
+        AvailabilityCalendarDto calendar = bookingService.getAvailabilityCalendar(
+                propertyId, window.getFrom(), window.getTo());
+        return ResponseEntity.ok()
+                .cacheControl(CALENDAR_CACHE_CONTROL)
+                .eTag(eTag)
+                .body(calendar);
+    }
+
+    // The served window is part of the tag: it starts at today at the earliest, so the tag moves at least daily
+    private static String calendarETag(Long propertyId, long bookingVersion, CalendarWindowDto window) {
+        return propertyId + ":" + bookingVersion + ":" + window.getFrom() + ":" + window.getTo();
+    }
+
     @PreAuthorize("hasRole('ROLE_HOST')")
     @PutMapping("/{bookingId}/confirm")
     @Operation(summary = "Confirm a booking",
@@ -248,6 +322,7 @@ public class BookingController {
                     - **Endpoint**: `/api/bookings/host`
                     - **Method**: `GET`
                     - **Query Parameters**: `page` and `size` for pagination
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user (with host role) sends a request to retrieve their bookings.
                     2. The server retrieves the authenticated user's ID from the security context.
@@ -261,10 +336,12 @@ public class BookingController {
     )
     public ResponseEntity<BookingResponsePage> getBookingsByHostId(@RequestParam(defaultValue = "0") int page,
                                                                    @RequestParam(defaultValue = "10") int size,
+                                                                   @RequestParam(required = false) String after,
                                                                    @PathVariable String status) {
         Long userId = getAuthenticatedUserId();
-        BookingResponsePage bookingResponsePage = bookingService.
-                getBookingsByHostIdAndStatus(userId, status, page, size);
+        BookingResponsePage bookingResponsePage = after != null
+                ? bookingService.scrollBookingsByHostIdAndStatus(userId, status, after, size)
+                : bookingService.getBookingsByHostIdAndStatus(userId, status, page, size);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -276,6 +353,7 @@ public class BookingController {
                     - **Endpoint**: `/api/bookings/guest/{status}`
                     - **Method**: `GET`
                     - **Query Parameters**: `page` and `size` for pagination
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user (with guest role) sends a request to retrieve their bookings.
                     2. The server retrieves the authenticated user's ID from the security context.
@@ -289,10 +367,12 @@ public class BookingController {
     )
     public ResponseEntity<BookingResponsePage> getBookingsByGuestIdAndStatus(@RequestParam(defaultValue = "0") int page,
                                                                     @RequestParam(defaultValue = "10") int size,
+                                                                    @RequestParam(required = false) String after,
                                                                     @PathVariable String status) {
         Long userId = getAuthenticatedUserId();
-        BookingResponsePage bookingResponsePage = bookingService.
-                getBookingsByGuestIdAndStatus(userId, status, page, size);
+        BookingResponsePage bookingResponsePage = after != null
+                ? bookingService.scrollBookingsByGuestIdAndStatus(userId, status, after, size)
+                : bookingService.getBookingsByGuestIdAndStatus(userId, status, page, size);
         return ResponseEntity.ok(bookingResponsePage);
     }
 
@@ -1,5 +1,8 @@
 package com.bookinline.bookinline.controller;
 
+import com.bookinline.bookinline.dto.ImageUploadConfirmationDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotsRequestDto;
 import com.bookinline.bookinline.dto.PropertyFilterDto;
 import com.bookinline.bookinline.dto.PropertyRequestDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
@@ -18,6 +21,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
 import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -145,6 +149,75 @@ public class PropertyController {
         return ResponseEntity.ok(updatedProperty);
     }
 
+    @PreAuthorize("hasRole('ROLE_HOST')")
+    @PostMapping("/{propertyId}/images/upload-slots")
+    @Operation(summary = "Request presigned upload slots for property images",
+            description = """
+                    Detailed description of the image upload slots endpoint:
+                    - **Endpoint**: `/api/properties/{propertyId}/images/upload-slots`
+                    - **Method**: `POST`
+                    - **Request Body**: JSON object listing the file name, content type and size of each image.
+                    
+                    1. The user must be authenticated and have the `ROLE_HOST` role to access this endpoint.
+                    2. The user must be the host of the property.
+                    3. The server returns one presigned PUT URL per image, valid for a limited time.
+                    4. The client uploads each image directly to storage with the returned Content-Type and Content-Length.
+                    5. The client then calls the confirm endpoint with the returned keys.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Upload slots created successfully"),
+                    @ApiResponse(responseCode = "400", description = "Invalid image data",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class))),
+                    @ApiResponse(responseCode = "403", description = "User does not have permission to update the property",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class))),
+                    @ApiResponse(responseCode = "404", description = "Property not found",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class)))
+            }
+    )
+    public ResponseEntity<List<ImageUploadSlotDto>> createImageUploadSlots(
+            @PathVariable Long propertyId,
+            @RequestBody @Valid ImageUploadSlotsRequestDto imageUploadSlotsRequestDto) {
+        Long userId = getAuthenticatedUserId();
+        List<ImageUploadSlotDto> slots = propertyService.createImageUploadSlots(
+                propertyId, userId, imageUploadSlotsRequestDto);
+        return new ResponseEntity<>(slots, HttpStatus.CREATED);
+    }
+
+    @PreAuthorize("hasRole('ROLE_HOST')")
+    @PostMapping("/{propertyId}/images/confirm")
+    @Operation(summary = "Attach directly uploaded images to a property",
+            description = """
+                    Detailed description of the confirm image uploads endpoint:
+                    - **Endpoint**: `/api/properties/{propertyId}/images/confirm`
+                    - **Method**: `POST`
+                    - **Request Body**: JSON object with the keys returned by the upload slots endpoint.
+                    
+                    1. The user must be authenticated and have the `ROLE_HOST` role to access this endpoint.
+                    2. The user must be the host of the property.
+                    3. The server checks that every object exists in storage and is within the size limit.
+                    4. The server attaches the images to the property and returns the updated property details.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Images attached successfully"),
+                    @ApiResponse(responseCode = "400", description = "Image missing, too large or not issued for this property",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class))),
+                    @ApiResponse(responseCode = "403", description = "User does not have permission to update the property",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class))),
+                    @ApiResponse(responseCode = "404", description = "Property not found",
+                            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorObject.class)))
+            }
+    )
+    public ResponseEntity<PropertyResponseDto> confirmImageUploads(
+            @PathVariable Long propertyId,
+            @RequestBody @Valid ImageUploadConfirmationDto imageUploadConfirmationDto) {
+        Long userId = getAuthenticatedUserId();
+        PropertyResponseDto property = propertyService.confirmImageUploads(
+                propertyId, userId, imageUploadConfirmationDto);
+        return ResponseEntity.ok(property);
+    }
+
     @PreAuthorize("hasRole('ROLE_HOST')")
     @DeleteMapping("/delete/{propertyId}")
     @Operation(summary = "Delete an existing property",
@@ -205,6 +278,7 @@ public class PropertyController {
                     - **Endpoint**: `/api/properties/available`
                     - **Method**: `GET`
                     - **Request Body**: None
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user does not need to be authenticated to access this endpoint.
                     2. The server retrieves a paginated list of available properties.
@@ -217,8 +291,11 @@ public class PropertyController {
             }
     )
     public ResponseEntity<PropertyResponsePage> getAvailableProperties(@RequestParam(defaultValue = "0") int page,
-                                                                        @RequestParam(defaultValue = "10") int size) {
-        PropertyResponsePage availableProperties = propertyService.getAvailableProperties(page, size);
+                                                                        @RequestParam(defaultValue = "10") int size,
+                                                                        @RequestParam(required = false) String after) {
+        PropertyResponsePage availableProperties = after != null
+                ? propertyService.scrollAvailableProperties(after, size)
+                : propertyService.getAvailableProperties(page, size);
         return ResponseEntity.ok(availableProperties);
     }
 
@@ -256,6 +333,7 @@ public class PropertyController {
                     - **Endpoint**: `/api/properties/host`
                     - **Method**: `GET`
                     - **Request Body**: None
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. The user must be authenticated and have the `ROLE_HOST` role to access this endpoint.
                     2. The server retrieves a paginated list of properties owned by the authenticated host.
@@ -270,9 +348,12 @@ public class PropertyController {
     )
     public ResponseEntity<PropertyResponsePage> getPropertiesByHostId(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after) {
         Long userId = getAuthenticatedUserId();
-        PropertyResponsePage properties = propertyService.getPropertiesByHostId(userId, page, size);
+        PropertyResponsePage properties = after != null
+                ? propertyService.scrollPropertiesByHostId(userId, after, size)
+                : propertyService.getPropertiesByHostId(userId, page, size);
         return ResponseEntity.ok(properties);
     }
 
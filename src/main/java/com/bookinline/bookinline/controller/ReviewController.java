@@ -134,6 +134,7 @@ public class ReviewController {
                     - **Endpoint**: `/api/reviews/property/{propertyId}`
                     - **Method**: `GET`
                     - **Path Variable**: `propertyId` - ID of the property to retrieve reviews for
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Any user sends a GET request to the endpoint with the property ID.
                     2. The system checks if the property exists.
@@ -147,8 +148,11 @@ public class ReviewController {
     )
     public ResponseEntity<ReviewResponsePage> getReviewsByPropertyId(@PathVariable Long propertyId,
                                                                      @RequestParam(defaultValue = "0") int page,
-                                                                     @RequestParam(defaultValue = "10") int size) {
-        ReviewResponsePage reviewResponsePage = reviewService.getReviewsByPropertyId(propertyId, page, size);
+                                                                     @RequestParam(defaultValue = "10") int size,
+                                                                     @RequestParam(required = false) String after) {
+        ReviewResponsePage reviewResponsePage = after != null
+                ? reviewService.scrollReviewsByPropertyId(propertyId, after, size)
+                : reviewService.getReviewsByPropertyId(propertyId, page, size);
         return ResponseEntity.ok(reviewResponsePage);
     }
 
@@ -159,6 +163,7 @@ public class ReviewController {
                     - **Endpoint**: `/api/reviews/user/{userId}`
                     - **Method**: `GET`
                     - **Path Variable**: `userId` - ID of the user to retrieve reviews for
+                    - **Cursor**: optional `after`; send it empty for the first page, then pass back `nextCursor`. Cursor pages are ordered by ID and skip the totals (`-1`)
                     
                     1. Any user sends a GET request to the endpoint with the user ID.
                     2. The system checks if the user exists.
@@ -172,8 +177,11 @@ public class ReviewController {
     )
     public ResponseEntity<ReviewResponsePage> getReviewsByUserId(@PathVariable Long userId,
                                                                   @RequestParam(defaultValue = "0") int page,
-                                                                  @RequestParam(defaultValue = "10") int size) {
-        ReviewResponsePage reviewResponsePage = reviewService.getReviewsByUserId(userId, page, size);
+                                                                  @RequestParam(defaultValue = "10") int size,
+                                                                  @RequestParam(required = false) String after) {
+        ReviewResponsePage reviewResponsePage = after != null
+                ? reviewService.scrollReviewsByUserId(userId, after, size)
+                : reviewService.getReviewsByUserId(userId, page, size);
         return ResponseEntity.ok(reviewResponsePage);
     }
 
@@ -1,8 +1,12 @@
 package com.bookinline.bookinline.controller;
 
+import com.bookinline.bookinline.dto.PresignedUrlBatchRequestDto;
 import com.bookinline.bookinline.service.S3Service;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,4 +24,9 @@ public class S3Controller {
         String url = s3Service.generatePresignedUrl(key, expirationInMinutes);
         return Map.of("url", url);
     }
+
+    @PostMapping("/presigned-urls")
+    public Map<String, String> getPresignedUrls(@RequestBody @Valid PresignedUrlBatchRequestDto request) {
+        return s3Service.generatePresignedUrls(request.getKeys(), request.getExpirationInMinutes());
+    }
 }
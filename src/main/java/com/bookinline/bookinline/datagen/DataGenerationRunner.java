@@ -0,0 +1,71 @@
+package com.bookinline.bookinline.datagen;
+
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the configured database with a synthetic dataset on startup when the {@code datagen} profile is
+ * active. Runs before the application reports ready, so the availability index is warmed from the new rows.
+ * With {@code datagen.exit-on-completion} the application shuts down afterwards, which makes it usable
+ * as a one-off command.
+ */
+@Component
+@Profile("datagen")
+public class DataGenerationRunner implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerationRunner.class);
+
+    private final SyntheticDataGenerator generator;
+    private final PropertyCacheEvictor propertyCacheEvictor;
+    private final ConfigurableApplicationContext applicationContext;
+    private final DatasetSpec spec;
+    private final boolean exitOnCompletion;
+
+    public DataGenerationRunner(JdbcTemplate jdbcTemplate,
+                                PropertyCacheEvictor propertyCacheEvictor,
+                                ConfigurableApplicationContext applicationContext,
+                                @Value("${datagen.hosts:20000}") int hosts,
+                                @Value("${datagen.guests:200000}") int guests,
+                                @Value("${datagen.properties:50000}") int properties,
+                                @Value("${datagen.bookings:1000000}") int bookings,
+                                @Value("${datagen.review-rate:0.35}") double reviewRate,
+                                @Value("${datagen.history-days:730}") int historyDays,
+                                @Value("${datagen.horizon-days:365}") int horizonDays,
+                                @Value("${datagen.seed:42}") long seed,
+                                @Value("${datagen.batch-size:1000}") int batchSize,
+                                @Value("${datagen.exit-on-completion:false}") boolean exitOnCompletion) {
+        this.generator = new SyntheticDataGenerator(jdbcTemplate, batchSize);
+        this.propertyCacheEvictor = propertyCacheEvictor;
+        this.applicationContext = applicationContext;
+        this.spec = DatasetSpec.builder()
+                .hosts(hosts)
+                .guests(guests)
+                .properties(properties)
+                .bookings(bookings)
+                .reviewRate(reviewRate)
+                .historyDays(historyDays)
+                .horizonDays(horizonDays)
+                .seed(seed)
+                .build();
+        this.exitOnCompletion = exitOnCompletion;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Generating synthetic dataset: {}", spec);
+        generator.generate(spec);
+        propertyCacheEvictor.evictAll();
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
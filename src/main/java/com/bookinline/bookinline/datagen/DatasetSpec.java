@@ -0,0 +1,18 @@
+package com.bookinline.bookinline.datagen;
+
+import lombok.Builder;
+
+/**
+ * Size and shape of a synthetic dataset. Bookings are spread over a window of {@code historyDays} before
+ * and {@code horizonDays} after today; {@code reviewRate} is the share of completed stays that get a review.
+ */
+@Builder
+public record DatasetSpec(int hosts,
+                          int guests,
+                          int properties,
+                          int bookings,
+                          double reviewRate,
+                          int historyDays,
+                          int horizonDays,
+                          long seed) {
+}
@@ -0,0 +1,11 @@
+package com.bookinline.bookinline.datagen;
+
+import java.time.Duration;
+
+public record DatasetSummary(long users,
+                             long properties,
+                             long images,
+                             long bookings,
+                             long reviews,
+                             Duration elapsed) {
+}
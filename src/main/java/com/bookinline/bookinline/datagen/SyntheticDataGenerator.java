@@ -0,0 +1,376 @@
+package com.bookinline.bookinline.datagen;
+
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.entity.enums.UserStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a synthetic dataset with the skew of real traffic: property popularity and guest activity
+ * follow Zipf distributions, cities are unevenly sized, check-ins peak in summer and around Christmas,
+ * and only completed stays are reviewed. Stays never overlap per property, so the data satisfies the
+ * booking exclusion constraint, and the rating aggregates on {@code property} match the review rows.
+ * <p>
+ * Rows are written with batched JDBC inserts in dependency order. Ids are reserved up front by moving each
+ * sequence past the generated range, so the application keeps allocating ids safely afterwards. The same
+ * generator runs against PostgreSQL (the {@code datagen} profile) and the embedded test database.
+ */
+public class SyntheticDataGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String DEFAULT_PASSWORD = "password123";
+
+    private static final String[] CITIES = {
+            "Warsaw", "Krakow", "Gdansk", "Wroclaw", "Zakopane", "Poznan", "Sopot", "Lodz", "Torun",
+            "Lublin", "Szczecin", "Katowice", "Olsztyn", "Rzeszow", "Bialystok", "Kolobrzeg", "Karpacz"
+    };
+    private static final String[] STREETS = {
+            "Main", "Market", "River", "Forest", "Castle", "Harbour", "Garden", "Mill", "Church", "Station"
+    };
+    private static final String[] ADJECTIVES = {
+            "Cozy", "Bright", "Spacious", "Modern", "Charming", "Quiet", "Stylish", "Rustic", "Sunny", "Elegant"
+    };
+    private static final String[] COMMENTS = {
+            "Very disappointing stay.",
+            "Below expectations, would not book again.",
+            "Decent place for the price.",
+            "Great stay, would come back.",
+            "Perfect in every way, highly recommended."
+    };
+    private static final int MAX_IMAGES_PER_PROPERTY = 5;
+    private static final int MAX_NIGHTS = 14;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public DatasetSummary generate(DatasetSpec spec) {
+        long started = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate windowStart = today.minusDays(spec.historyDays());
+        int windowDays = spec.historyDays() + spec.horizonDays();
+        // Average stay plus turnover is about five nights, leave headroom for seasonal crowding
+        int capacity = windowDays / 6;
+        if ((long) spec.properties() * capacity < spec.bookings()) {
+            throw new IllegalArgumentException("Cannot fit " + spec.bookings() + " bookings into "
+                    + spec.properties() + " properties over " + windowDays + " days");
+        }
+
+        long firstUserId = reserveIds("users_seq", spec.hosts() + spec.guests());
+        long firstPropertyId = reserveIds("property_seq", spec.properties());
+        long firstImageId = reserveIds("image_seq", (long) spec.properties() * MAX_IMAGES_PER_PROPERTY);
+        long firstBookingId = reserveIds("booking_seq", spec.bookings() + spec.properties());
+        long firstReviewId = reserveIds("review_seq", spec.bookings() + spec.properties());
+
+        TableWriter users = new TableWriter("INSERT INTO users (id, email, full_name, password, phone_number, "
+                + "role, status) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        TableWriter properties = new TableWriter("INSERT INTO property (id, title, description, address, "
+                + "price_per_night, max_guests, average_rating, available, host_id, city, property_type, "
+                + "floor_area, bedrooms, review_count, rating_sum) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        TableWriter images = new TableWriter("INSERT INTO image (id, image_url, property_id, thumbnail_url, "
+                + "medium_url, derivative_status, derivative_attempts) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        TableWriter bookings = new TableWriter("INSERT INTO booking (id, check_in_date, check_out_date, "
+                + "guest_id, property_id, status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)");
+        TableWriter reviews = new TableWriter("INSERT INTO review (id, rating, comment, created_at, author_id, "
+                + "property_id) VALUES (?, ?, ?, ?, ?, ?)");
+
+        String password = new BCryptPasswordEncoder().encode(DEFAULT_PASSWORD);
+        for (int i = 0; i < spec.hosts() + spec.guests(); i++) {
+            long id = firstUserId + i;
+            Role role = i < spec.hosts() ? Role.HOST : Role.GUEST;
+            users.add(id, role.name().toLowerCase() + id + "@synthetic.bookinline.dev",
+                    role == Role.HOST ? "Host " + id : "Guest " + id, password,
+                    String.format("+48%09d", id % 1_000_000_000L), role.name(), UserStatus.ACTIVE.name());
+            users.flushIfFull();
+        }
+        users.flush();
+
+        // Popularity ranks are shuffled so that id order says nothing about demand
+        long[] hostIds = shuffledIds(firstUserId, spec.hosts(), random);
+        long[] guestIds = shuffledIds(firstUserId + spec.hosts(), spec.guests(), random);
+        WeightedSampler hostSampler = WeightedSampler.zipf(spec.hosts(), 1.1);
+        WeightedSampler guestSampler = WeightedSampler.zipf(spec.guests(), 0.7);
+        WeightedSampler citySampler = WeightedSampler.zipf(CITIES.length, 1.0);
+        WeightedSampler checkInSampler = WeightedSampler.of(seasonalWeights(windowStart, windowDays));
+        int[] bookingCounts = bookingsPerProperty(spec, capacity, random);
+        PropertyType[] types = PropertyType.values();
+
+        long imageId = firstImageId;
+        long bookingId = firstBookingId;
+        long reviewId = firstReviewId;
+        for (int i = 0; i < spec.properties(); i++) {
+            long propertyId = firstPropertyId + i;
+            int cityRank = citySampler.sample(random);
+            PropertyType type = types[random.nextInt(types.length)];
+            // Each property has a quality level that its reviews scatter around
+            double quality = 3.2 + random.nextDouble() * 1.7;
+
+            int reviewCount = 0;
+            long ratingSum = 0;
+            Set<Long> reviewers = new HashSet<>();
+            for (int[] stay : placeStays(bookingCounts[i], windowDays, checkInSampler, random)) {
+                LocalDate checkIn = windowStart.plusDays(stay[0]);
+                LocalDate checkOut = checkIn.plusDays(stay[1]);
+                long guestId = guestIds[guestSampler.sample(random)];
+                BookingStatus status = bookingStatus(checkIn, checkOut, today, random);
+                bookings.add(bookingId++, checkIn, checkOut, guestId, propertyId, status.name(),
+                        bookedAt(checkIn, status, now, random));
+
+                if (status == BookingStatus.CHECKED_OUT && random.nextDouble() < spec.reviewRate()
+                        && reviewers.add(guestId)) {
+                    int rating = (int) Math.max(1, Math.min(5, Math.round(quality + nextGaussian(random) * 0.8)));
+                    LocalDateTime reviewedAt = checkOut.atTime(10, 0).plusDays(random.nextInt(14));
+                    reviews.add(reviewId++, rating, COMMENTS[rating - 1],
+                            reviewedAt.isAfter(now) ? now : reviewedAt, guestId, propertyId);
+                    reviewCount++;
+                    ratingSum += rating;
+                }
+            }
+
+            int bedrooms = 1 + Math.min(4, (int) Math.abs(nextGaussian(random) * 1.5));
+            double basePrice = 60 + 140.0 / (1 + cityRank * 0.4);
+            BigDecimal price = BigDecimal.valueOf(basePrice * (0.7 + bedrooms * 0.3) * (0.8 + random.nextDouble() * 0.4))
+                    .setScale(2, RoundingMode.HALF_UP);
+            String typeName = type.name().charAt(0) + type.name().substring(1).toLowerCase();
+            properties.add(propertyId,
+                    ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + typeName.toLowerCase() + " in " + CITIES[cityRank],
+                    typeName + " with " + bedrooms + (bedrooms == 1 ? " bedroom" : " bedrooms")
+                            + " close to the centre of " + CITIES[cityRank] + ".",
+                    (1 + random.nextInt(200)) + " " + STREETS[random.nextInt(STREETS.length)] + " Street, " + CITIES[cityRank],
+                    price, bedrooms * 2, reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount,
+                    random.nextDouble() < 0.95, hostIds[hostSampler.sample(random)], CITIES[cityRank], type.name(),
+                    bedrooms * 25 + random.nextInt(30), bedrooms, reviewCount, ratingSum);
+
+            int imageCount = 1 + random.nextInt(MAX_IMAGES_PER_PROPERTY);
+            for (int n = 0; n < imageCount; n++) {
+                String url = "https://images.synthetic.bookinline.dev/properties/" + propertyId + "/" + n + ".jpg";
+                images.add(imageId++, url, propertyId, url + ".thumbnail.jpg", url + ".medium.jpg",
+                        DerivativeStatus.READY.name(), 1);
+            }
+
+            if (bookings.isFull() || properties.isFull()) {
+                // Parents first, the foreign keys are checked per statement
+                properties.flush();
+                images.flush();
+                bookings.flush();
+                reviews.flush();
+            }
+        }
+        properties.flush();
+        images.flush();
+        bookings.flush();
+        reviews.flush();
+
+        DatasetSummary summary = new DatasetSummary(users.written, properties.written, images.written,
+                bookings.written, reviews.written, Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Generated {} users, {} properties, {} images, {} bookings and {} reviews in {} s",
+                summary.users(), summary.properties(), summary.images(), summary.bookings(), summary.reviews(),
+                summary.elapsed().toSeconds());
+        return summary;
+    }
+
+    /**
+     * Spreads the requested bookings over properties in proportion to their Zipf weight. A popular
+     * property cannot take more than {@code capacity} stays, so its overflow is handed to the rest.
+     */
+    private int[] bookingsPerProperty(DatasetSpec spec, int capacity, SplittableRandom random) {
+        int n = spec.properties();
+        double[] rankWeights = WeightedSampler.zipfWeights(n, 1.0);
+        long[] order = shuffledIds(0, n, random);
+        double[] weights = new double[n];
+        for (int rank = 0; rank < n; rank++) {
+            weights[(int) order[rank]] = rankWeights[rank];
+        }
+
+        boolean[] capped = new boolean[n];
+        double remaining = spec.bookings();
+        double freeWeight = Arrays.stream(weights).sum();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            double share = remaining / freeWeight;
+            for (int i = 0; i < n; i++) {
+                if (!capped[i] && weights[i] * share > capacity) {
+                    capped[i] = true;
+                    remaining -= capacity;
+                    freeWeight -= weights[i];
+                    changed = true;
+                }
+            }
+        }
+
+        int[] counts = new int[n];
+        double share = freeWeight > 0 ? remaining / freeWeight : 0;
+        for (int i = 0; i < n; i++) {
+            double expected = capped[i] ? capacity : weights[i] * share;
+            counts[i] = (int) expected + (random.nextDouble() < expected - Math.floor(expected) ? 1 : 0);
+        }
+        return counts;
+    }
+
+    /**
+     * Returns {@code [offset, nights]} pairs for up to {@code count} consecutive, non-overlapping stays.
+     * Check-ins are drawn from the seasonal distribution and pushed back when the property is still taken.
+     */
+    private List<int[]> placeStays(int count, int windowDays, WeightedSampler checkInSampler,
+                                   SplittableRandom random) {
+        int[] checkIns = new int[count];
+        for (int i = 0; i < count; i++) {
+            checkIns[i] = checkInSampler.sample(random);
+        }
+        Arrays.sort(checkIns);
+
+        List<int[]> stays = new ArrayList<>(count);
+        int nextFree = 0;
+        for (int checkIn : checkIns) {
+            int nights = 1;
+            while (nights < MAX_NIGHTS && random.nextDouble() < 0.7) {
+                nights++;
+            }
+            int start = Math.max(checkIn, nextFree);
+            if (start + nights > windowDays) {
+                break;
+            }
+            stays.add(new int[]{start, nights});
+            nextFree = start + nights;
+        }
+        return stays;
+    }
+
+    private double[] seasonalWeights(LocalDate windowStart, int windowDays) {
+        double[] weights = new double[windowDays];
+        for (int d = 0; d < windowDays; d++) {
+            LocalDate date = windowStart.plusDays(d);
+            int dayOfYear = date.getDayOfYear();
+            // Summer peak in mid July, a smaller one over Christmas and New Year, and weekend arrivals
+            double weight = 1.0 + 0.6 * Math.cos(2 * Math.PI * (dayOfYear - 196) / 365.25);
+            if (dayOfYear >= 354 || dayOfYear <= 3) {
+                weight += 0.8;
+            }
+            if (date.getDayOfWeek() == DayOfWeek.FRIDAY || date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                weight *= 1.3;
+            }
+            weights[d] = weight;
+        }
+        return weights;
+    }
+
+    private BookingStatus bookingStatus(LocalDate checkIn, LocalDate checkOut, LocalDate today,
+                                        SplittableRandom random) {
+        double roll = random.nextDouble();
+        if (!checkOut.isAfter(today)) {
+            return roll < 0.92 ? BookingStatus.CHECKED_OUT : BookingStatus.CANCELLED;
+        }
+        if (!checkIn.isAfter(today)) {
+            return BookingStatus.CONFIRMED;
+        }
+        if (roll < 0.75) {
+            return BookingStatus.CONFIRMED;
+        }
+        return roll < 0.9 ? BookingStatus.PENDING : BookingStatus.CANCELLED;
+    }
+
+    private LocalDateTime bookedAt(LocalDate checkIn, BookingStatus status, LocalDateTime now,
+                                   SplittableRandom random) {
+        // Pending requests are recent, otherwise the expiry sweeper would cancel them on its first run
+        LocalDateTime recent = now.minusMinutes(random.nextInt(24 * 60));
+        if (status == BookingStatus.PENDING) {
+            return recent;
+        }
+        LocalDateTime bookedAt = checkIn.atTime(random.nextInt(24), random.nextInt(60))
+                .minusDays(1 + random.nextInt(120));
+        return bookedAt.isAfter(now) ? recent : bookedAt;
+    }
+
+    private long[] shuffledIds(long first, int count, SplittableRandom random) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = first + i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    private static double nextGaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /**
+     * Takes the next value of {@code sequence} as the first generated id and restarts the sequence after
+     * {@code count} ids, so pooled blocks handed out later cannot collide with generated rows.
+     */
+    private long reserveIds(String sequence, long count) {
+        String productName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        String nextValue = "PostgreSQL".equals(productName)
+                ? "SELECT nextval('" + sequence + "')"
+                : "VALUES NEXT VALUE FOR " + sequence;
+        Long first = jdbcTemplate.queryForObject(nextValue, Long.class);
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (first + count));
+        return first;
+    }
+
+    private final class TableWriter {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+
+        private TableWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+        }
+
+        private boolean isFull() {
+            return rows.size() >= batchSize;
+        }
+
+        private void flushIfFull() {
+            if (isFull()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                written += rows.size();
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.bookinline.bookinline.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws indexes {@code 0..n-1} with fixed relative weights using a cumulative table and binary search,
+ * so a draw costs {@code O(log n)} however skewed the distribution is.
+ */
+public final class WeightedSampler {
+    private final double[] cumulative;
+
+    private WeightedSampler(double[] cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    public static WeightedSampler of(double[] weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+        cumulative[cumulative.length - 1] = 1.0;
+        return new WeightedSampler(cumulative);
+    }
+
+    /**
+     * Rank {@code k} (0-based) is drawn with probability proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    public static WeightedSampler zipf(int n, double exponent) {
+        return of(zipfWeights(n, exponent));
+    }
+
+    public static double[] zipfWeights(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return weights;
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+}
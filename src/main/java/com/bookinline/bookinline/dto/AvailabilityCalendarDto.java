@@ -0,0 +1,21 @@
+package com.bookinline.bookinline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityCalendarDto {
+    private Long propertyId;
+    private LocalDate from;
+    private LocalDate to;
+    // Coalesced [checkIn, checkOut) pairs clipped to the window, in date order
+    private List<LocalDate[]> occupied;
+}
@@ -18,4 +18,5 @@ public class BookingResponsePage {
     private long totalElements;
     private boolean last;
     private List<BookingResponseDto> bookings;
+    private String nextCursor;
 }
@@ -0,0 +1,18 @@
+package com.bookinline.bookinline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarWindowDto {
+    private LocalDate from;
+    // Exclusive
+    private LocalDate to;
+}
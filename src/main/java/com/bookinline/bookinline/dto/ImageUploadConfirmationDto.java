@@ -0,0 +1,18 @@
+package com.bookinline.bookinline.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadConfirmationDto {
+    @NotEmpty(message = "At least one image key is required")
+    private List<String> keys;
+}
@@ -0,0 +1,21 @@
+package com.bookinline.bookinline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSlotDto {
+    private String key;
+    private String uploadUrl;
+    // The PUT must carry exactly this Content-Type and Content-Length, both are part of the signature
+    private String contentType;
+    private Long contentLength;
+    private LocalDateTime expiresAt;
+}
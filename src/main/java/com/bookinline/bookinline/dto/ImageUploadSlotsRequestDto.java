@@ -0,0 +1,21 @@
+package com.bookinline.bookinline.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSlotsRequestDto {
+    @NotEmpty(message = "At least one image is required")
+    @Size(max = 20, message = "At most 20 images can be uploaded at once")
+    private List<@Valid ImageUploadRequestDto> images;
+}
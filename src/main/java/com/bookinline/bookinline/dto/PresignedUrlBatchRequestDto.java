@@ -0,0 +1,27 @@
+package com.bookinline.bookinline.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlBatchRequestDto {
+    @NotEmpty(message = "At least one key is required")
+    @Size(max = 200, message = "At most 200 keys can be signed at once")
+    private List<String> keys;
+
+    @Positive(message = "Expiration must be a positive number")
+    @Max(value = 10080, message = "Expiration must not exceed 7 days")
+    @Builder.Default
+    private int expirationInMinutes = 120;
+}
@@ -0,0 +1,16 @@
+package com.bookinline.bookinline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyBookingDatesDto {
+    private Long propertyId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+}
@@ -18,4 +18,5 @@ public class PropertyResponsePage implements Serializable {
     private long totalElements;
     private boolean last;
     private List<PropertyResponseDto> properties;
+    private String nextCursor;
 }
@@ -18,4 +18,5 @@ public class ReviewResponsePage {
     private long totalElements;
     private boolean last;
     private List<ReviewResponseDto> reviews;
+    private String nextCursor;
 }
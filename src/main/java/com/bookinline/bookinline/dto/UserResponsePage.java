@@ -18,4 +18,5 @@ public class UserResponsePage {
     private long totalElements;
     private boolean last;
     private List<UserResponseDto> users;
+    private String nextCursor;
 }
@@ -1,23 +1,46 @@
 package com.bookinline.bookinline.entity;
 
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class Image {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "image_seq")
+    @SequenceGenerator(name = "image_seq", sequenceName = "image_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String imageUrl;
 
+    // Downscaled variants, filled in by ImageDerivativeWorker once derivativeStatus is READY
+    private String thumbnailUrl;
+    private String mediumUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DerivativeStatus derivativeStatus = DerivativeStatus.PENDING;
+
+    @Column(nullable = false)
+    private int derivativeAttempts;
+
+    private LocalDateTime derivativeClaimedAt;
+
     @ManyToOne
     @JoinColumn(name = "property_id")
     private Property property;
+
+    public Image(Long id, String imageUrl, Property property) {
+        this.id = id;
+        this.imageUrl = imageUrl;
+        this.property = property;
+    }
 }
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -18,7 +19,8 @@ import java.util.List;
 @NoArgsConstructor
 public class Property {
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "property_seq")
+    @SequenceGenerator(name = "property_seq", sequenceName = "property_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -43,10 +45,21 @@ public class Property {
     private Boolean available = true;
     @Column(nullable = false)
     private Double averageRating = 0.0;
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer reviewCount = 0;
+    @Builder.Default
+    @Column(nullable = false)
+    private Long ratingSum = 0L;
+    // Only ever changed by PropertyRepository.incrementBookingVersions, so saving a stale copy cannot roll it back
+    @Builder.Default
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long bookingVersion = 0L;
 
     @ManyToOne
     private User host;
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "property", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Image> images = new ArrayList<>();
 
@@ -0,0 +1,8 @@
+package com.bookinline.bookinline.entity.enums;
+
+public enum DerivativeStatus {
+    PENDING,
+    PROCESSING,
+    READY,
+    FAILED
+}
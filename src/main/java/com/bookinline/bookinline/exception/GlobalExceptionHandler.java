@@ -1,7 +1,10 @@
 package com.bookinline.bookinline.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -214,4 +217,18 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorObject, HttpStatus.UNAUTHORIZED);
     }
+
+    // Raised when no database connection could be obtained, e.g. the connection bulkhead stayed full
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorObject> handleDatabaseUnavailableException(RuntimeException e) {
+        ErrorObject errorObject = new ErrorObject();
+
+        errorObject.setStatusCode(503);
+        errorObject.setMessage("Service is temporarily overloaded, please retry");
+        errorObject.setTimestamp(new Date());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorObject);
+    }
 }
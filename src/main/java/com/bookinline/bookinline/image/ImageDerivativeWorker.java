@@ -0,0 +1,133 @@
+package com.bookinline.bookinline.image;
+
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import com.bookinline.bookinline.entity.Image;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
+import com.bookinline.bookinline.repository.ImageRepository;
+import com.bookinline.bookinline.service.S3Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates {@link ImageVariant} renditions off the request path. The image table is the job queue:
+ * new uploads are handed to a bounded worker pool after commit, and a poller picks up whatever the pool
+ * dropped, whatever failed with attempts left, and claims abandoned by a crashed instance.
+ */
+@Component
+public class ImageDerivativeWorker {
+    private static final Logger logger = LoggerFactory.getLogger(ImageDerivativeWorker.class);
+
+    private final ImageRepository imageRepository;
+    private final S3Service s3Service;
+    private final PropertyCacheEvictor propertyCacheEvictor;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    public ImageDerivativeWorker(ImageRepository imageRepository,
+                                 S3Service s3Service,
+                                 PropertyCacheEvictor propertyCacheEvictor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${images.derivatives.enabled:true}") boolean enabled,
+                                 @Value("${images.derivatives.workers:2}") int workers,
+                                 @Value("${images.derivatives.queue-capacity:100}") int queueCapacity,
+                                 @Value("${images.derivatives.max-attempts:3}") int maxAttempts,
+                                 @Value("${images.derivatives.batch-size:50}") int batchSize,
+                                 @Value("${images.derivatives.claim-timeout:PT10M}") Duration claimTimeout) {
+        this.imageRepository = imageRepository;
+        this.s3Service = s3Service;
+        this.propertyCacheEvictor = propertyCacheEvictor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        // Resizing is CPU bound, so a small fixed pool; overflow is dropped and left to the poller
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-derivatives-", 0).daemon().factory(),
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImagesUploaded(ImagesUploadedEvent event) {
+        if (enabled) {
+            event.imageIds().forEach(this::submit);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${images.derivatives.poll-interval:PT1M}")
+    public void pollPendingJobs() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> imageIds = imageRepository.findDerivativeJobIds(DerivativeStatus.PENDING,
+                DerivativeStatus.PROCESSING, LocalDateTime.now().minus(claimTimeout), Limit.of(batchSize));
+        if (!imageIds.isEmpty()) {
+            logger.info("Queueing {} pending image derivative jobs", imageIds.size());
+            imageIds.forEach(this::submit);
+        }
+    }
+
+    public void process(Long imageId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (imageRepository.claimDerivativeJob(imageId, DerivativeStatus.PENDING, DerivativeStatus.PROCESSING,
+                now, now.minus(claimTimeout)) == 0) {
+            return;
+        }
+        Image image = imageRepository.findById(imageId).orElse(null);
+        if (image == null) {
+            return;
+        }
+
+        try {
+            String key = s3Service.keyFromUrl(image.getImageUrl());
+            byte[] original = s3Service.downloadFile(key);
+            String thumbnailUrl = uploadVariant(key, original, ImageVariant.THUMBNAIL);
+            String mediumUrl = uploadVariant(key, original, ImageVariant.MEDIUM);
+            imageRepository.completeDerivativeJob(imageId, DerivativeStatus.READY, thumbnailUrl, mediumUrl);
+            propertyCacheEvictor.evictProperty(image.getProperty().getId());
+            meterRegistry.counter("images.derivatives", "outcome", "ready").increment();
+        } catch (Exception e) {
+            DerivativeStatus status = image.getDerivativeAttempts() >= maxAttempts
+                    ? DerivativeStatus.FAILED
+                    : DerivativeStatus.PENDING;
+            logger.warn("Derivative generation failed for image with ID: {} (attempt {}): {}",
+                    imageId, image.getDerivativeAttempts(), e.getMessage());
+            imageRepository.updateDerivativeStatus(imageId, status);
+            meterRegistry.counter("images.derivatives", "outcome", status.name().toLowerCase()).increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(Long imageId) {
+        executor.execute(() -> process(imageId));
+    }
+
+    private String uploadVariant(String key, byte[] original, ImageVariant variant) throws IOException {
+        byte[] content = ImageDerivativeGenerator.resize(original, variant.maxDimension());
+        return s3Service.uploadFile(variant.keyFor(key), content, "image/jpeg");
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookinline.bookinline.image;
+
+/**
+ * Downscaled renditions generated for every uploaded image. Listings use {@link #THUMBNAIL},
+ * property details use {@link #MEDIUM}; the original stays available under {@code Image.imageUrl}.
+ */
+public enum ImageVariant {
+    THUMBNAIL(400),
+    MEDIUM(1280);
+
+    private final int maxDimension;
+
+    ImageVariant(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    public int maxDimension() {
+        return maxDimension;
+    }
+
+    public String keyFor(String originalKey) {
+        return originalKey + "." + name().toLowerCase() + ".jpg";
+    }
+
+    /** Inverse of {@link #keyFor}: the key of the original upload a rendition belongs to. */
+    public static String originalKeyOf(String key) {
+        for (ImageVariant variant : values()) {
+            String suffix = variant.keyFor("");
+            if (key.endsWith(suffix)) {
+                return key.substring(0, key.length() - suffix.length());
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,6 @@
+package com.bookinline.bookinline.image;
+
+import java.util.List;
+
+public record ImagesUploadedEvent(List<Long> imageIds) {
+}
@@ -8,6 +8,7 @@ import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.entity.enums.BookingStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -51,4 +52,20 @@ public class BookingMapper {
         bookingResponsePage.setBookings(bookingResponseDtos);
         return bookingResponsePage;
     }
+
+    public static BookingResponsePage mapToBookingResponsePage(Window<Booking> bookingWindow, int size) {
+        BookingResponsePage bookingResponsePage = new BookingResponsePage();
+        bookingResponsePage.setSize(size);
+        bookingResponsePage.setTotalElements(-1);
+        bookingResponsePage.setTotalPages(-1);
+        bookingResponsePage.setLast(!bookingWindow.hasNext());
+        bookingResponsePage.setNextCursor(CursorMapper.mapToNextCursor(bookingWindow));
+
+        List<BookingResponseDto> bookingResponseDtos = bookingWindow.getContent().stream()
+                .map(BookingMapper::mapToBookingResponseDto)
+                .toList();
+
+        bookingResponsePage.setBookings(bookingResponseDtos);
+        return bookingResponsePage;
+    }
 }
@@ -0,0 +1,39 @@
+package com.bookinline.bookinline.mapper;
+
+import com.bookinline.bookinline.exception.FailedRequestParsingException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Converts between the opaque {@code after} cursor exposed by listing endpoints and the keyset
+ * position over {@code id} that the repositories scroll by. An empty cursor starts from the beginning.
+ */
+public class CursorMapper {
+    private static final String ID_KEY = "id";
+
+    public static KeysetScrollPosition mapToScrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return ScrollPosition.forward(Map.of(ID_KEY, Long.parseLong(id)));
+        } catch (IllegalArgumentException e) {
+            throw new FailedRequestParsingException("Invalid cursor");
+        }
+    }
+
+    public static String mapToNextCursor(Window<?> window) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        String id = String.valueOf(position.getKeys().get(ID_KEY));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,13 +3,20 @@ package com.bookinline.bookinline.mapper;
 import com.bookinline.bookinline.dto.*;
 import com.bookinline.bookinline.entity.Image;
 import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
 import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.image.ImageVariant;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
 public class PropertyMapper {
     public static PropertyResponseDto mapToPropertyResponseDto(Property property) {
+        return mapToPropertyResponseDto(property, ImageVariant.MEDIUM);
+    }
+
+    public static PropertyResponseDto mapToPropertyResponseDto(Property property, ImageVariant imageVariant) {
         PropertyResponseDto response = PropertyResponseDto.builder()
                 .id(property.getId())
                 .title(property.getTitle())
@@ -26,12 +33,24 @@ public class PropertyMapper {
                 .build();
 
         List<String> urls = property.getImages().stream()
-                .map(Image::getImageUrl)
+                .map(image -> mapToImageUrl(image, imageVariant))
                 .toList();
         response.setImageUrls(urls);
         return response;
     }
 
+    // Falls back to the original until the derivative worker has produced the variant
+    public static String mapToImageUrl(Image image, ImageVariant imageVariant) {
+        if (image.getDerivativeStatus() != DerivativeStatus.READY) {
+            return image.getImageUrl();
+        }
+        String variantUrl = switch (imageVariant) {
+            case THUMBNAIL -> image.getThumbnailUrl();
+            case MEDIUM -> image.getMediumUrl();
+        };
+        return variantUrl != null ? variantUrl : image.getImageUrl();
+    }
+
     public static Property mapToPropertyEntity(PropertyRequestDto propertyRequestDto) {
         return Property.builder()
                 .title(propertyRequestDto.getTitle())
@@ -55,7 +74,23 @@ public class PropertyMapper {
         propertyResponsePage.setLast(propertyPage.isLast());
 
         List<PropertyResponseDto> propertyResponseDtos = propertyPage.getContent().stream()
-                .map(PropertyMapper::mapToPropertyResponseDto)
+                .map(property -> mapToPropertyResponseDto(property, ImageVariant.THUMBNAIL))
+                .toList();
+
+        propertyResponsePage.setProperties(propertyResponseDtos);
+        return propertyResponsePage;
+    }
+
+    public static PropertyResponsePage mapToPropertyResponsePage(Window<Property> propertyWindow, int size) {
+        PropertyResponsePage propertyResponsePage = new PropertyResponsePage();
+        propertyResponsePage.setSize(size);
+        propertyResponsePage.setTotalElements(-1);
+        propertyResponsePage.setTotalPages(-1);
+        propertyResponsePage.setLast(!propertyWindow.hasNext());
+        propertyResponsePage.setNextCursor(CursorMapper.mapToNextCursor(propertyWindow));
+
+        List<PropertyResponseDto> propertyResponseDtos = propertyWindow.getContent().stream()
+                .map(property -> mapToPropertyResponseDto(property, ImageVariant.THUMBNAIL))
                 .toList();
 
         propertyResponsePage.setProperties(propertyResponseDtos);
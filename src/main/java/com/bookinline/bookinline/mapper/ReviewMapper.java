@@ -5,6 +5,7 @@ import com.bookinline.bookinline.dto.ReviewResponseDto;
 import com.bookinline.bookinline.dto.ReviewResponsePage;
 import com.bookinline.bookinline.entity.Review;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,4 +45,20 @@ public class ReviewMapper {
         reviewResponsePage.setReviews(reviewResponseDtos);
         return reviewResponsePage;
     }
+
+    public static ReviewResponsePage mapToReviewResponsePage(Window<Review> reviewWindow, int size) {
+        ReviewResponsePage reviewResponsePage = new ReviewResponsePage();
+        reviewResponsePage.setSize(size);
+        reviewResponsePage.setTotalElements(-1);
+        reviewResponsePage.setTotalPages(-1);
+        reviewResponsePage.setLast(!reviewWindow.hasNext());
+        reviewResponsePage.setNextCursor(CursorMapper.mapToNextCursor(reviewWindow));
+
+        List<ReviewResponseDto> reviewResponseDtos = reviewWindow.getContent().stream()
+                .map(ReviewMapper::mapToReviewResponseDto)
+                .toList();
+
+        reviewResponsePage.setReviews(reviewResponseDtos);
+        return reviewResponsePage;
+    }
 }
@@ -4,6 +4,7 @@ import com.bookinline.bookinline.dto.UserResponseDto;
 import com.bookinline.bookinline.dto.UserResponsePage;
 import com.bookinline.bookinline.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 
 import java.util.List;
 
@@ -35,4 +36,20 @@ public class UserMapper {
         responsePage.setUsers(userDtos);
         return responsePage;
     }
+
+    public static UserResponsePage mapToUserResponsePage(Window<User> userWindow, int size) {
+        UserResponsePage responsePage = new UserResponsePage();
+        responsePage.setSize(size);
+        responsePage.setTotalElements(-1);
+        responsePage.setTotalPages(-1);
+        responsePage.setLast(!userWindow.hasNext());
+        responsePage.setNextCursor(CursorMapper.mapToNextCursor(userWindow));
+
+        List<UserResponseDto> userDtos = userWindow.getContent().stream()
+                .map(UserMapper::mapToUserResponseDto)
+                .toList();
+
+        responsePage.setUsers(userDtos);
+        return responsePage;
+    }
 }
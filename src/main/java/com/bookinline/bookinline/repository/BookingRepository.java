@@ -1,23 +1,36 @@
 package com.bookinline.bookinline.repository;
 
+import com.bookinline.bookinline.dto.PropertyBookingDatesDto;
 import com.bookinline.bookinline.entity.Booking;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.entity.enums.BookingStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Page<Booking> findAll(Pageable pageable);
     Optional<Booking> findById(Long id);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     Page<Booking> findByGuestId(Long guestId, Pageable pageable);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     Page<Booking> findByPropertyId(Long propertyId, Pageable pageable);
     @Query("SELECT b FROM Booking b WHERE b.property.id = :propertyId AND b.guest.id = :guestId AND b.status = :status")
     List<Booking> findByPropertyIdAndGuestIdAndStatus(@Param("propertyId") Long propertyId,
@@ -26,9 +39,54 @@ public interface BookingRepository extends JpaRepository<Booking, Integer> {
     @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.checkOutDate < :checkOutDate")
     List<Booking> findByStatusAndCheckOutDateBefore(@Param("status") BookingStatus status,
                                                     @Param("checkOutDate") LocalDate checkOutDate);
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.checkOutDate < :checkOutDate " +
+            "AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByStatusAndCheckOutDateBefore(@Param("status") BookingStatus status,
+                                                    @Param("checkOutDate") LocalDate checkOutDate,
+                                                    @Param("afterId") Long afterId,
+                                                    Limit limit);
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.createdAt < :createdAt " +
+            "AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") BookingStatus status,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("afterId") Long afterId,
+                                                 Limit limit);
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.checkInDate < :checkInDate " +
+            "AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByStatusAndCheckInDateBefore(@Param("status") BookingStatus status,
+                                                   @Param("checkInDate") LocalDate checkInDate,
+                                                   @Param("afterId") Long afterId,
+                                                   Limit limit);
+    @Query("SELECT DISTINCT b.property.id FROM Booking b WHERE b.id IN :ids")
+    List<Long> findPropertyIdsByIds(@Param("ids") List<Long> ids);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :newStatus WHERE b.id IN :ids AND b.status = :status")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("status") BookingStatus status,
+                          @Param("newStatus") BookingStatus newStatus);
     @Query("SELECT b FROM Booking b WHERE b.property.id = :propertyId AND b.status IN :statuses")
     List<Booking> findByPropertyIdAndStatuses(@Param("propertyId") Long propertyId,
                                               @Param("statuses") List<BookingStatus> statuses);
+    @Query("SELECT new com.bookinline.bookinline.dto.PropertyBookingDatesDto(b.property.id, b.checkInDate, b.checkOutDate) " +
+            "FROM Booking b WHERE b.property.id = :propertyId AND b.status IN :statuses AND b.checkOutDate > :after")
+    List<PropertyBookingDatesDto> findBookingDatesByPropertyId(@Param("propertyId") Long propertyId,
+                                                               @Param("statuses") List<BookingStatus> statuses,
+                                                               @Param("after") LocalDate after);
+    @Query("SELECT new com.bookinline.bookinline.dto.PropertyBookingDatesDto(b.property.id, b.checkInDate, b.checkOutDate) " +
+            "FROM Booking b WHERE b.status IN :statuses AND b.checkOutDate > :after")
+    Stream<PropertyBookingDatesDto> streamBookingDates(@Param("statuses") List<BookingStatus> statuses,
+                                                       @Param("after") LocalDate after);
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END " +
+            "FROM Booking b " +
+            "WHERE b.property.id = :propertyId " +
+            "AND b.status IN :statuses " +
+            "AND b.checkInDate < :checkOutDate " +
+            "AND b.checkOutDate > :checkInDate")
+    boolean existsOverlappingBooking(@Param("propertyId") Long propertyId,
+                                     @Param("statuses") List<BookingStatus> statuses,
+                                     @Param("checkInDate") LocalDate checkInDate,
+                                     @Param("checkOutDate") LocalDate checkOutDate);
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END " +
             "FROM Booking b " +
             "WHERE b.guest.id = :guestId " +
@@ -38,14 +96,35 @@ public interface BookingRepository extends JpaRepository<Booking, Integer> {
                                                 @Param("hostId") Long hostId,
                                                 @Param("statuses") List<BookingStatus> statuses);
 
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     @Query("SELECT b FROM Booking b WHERE b.property.host.id = :hostId")
     Page<Booking> findByHostId(@Param("hostId") Long hostId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     @Query("SELECT b FROM Booking b WHERE b.property.host.id = :hostId AND b.status = :status")
     Page<Booking> findByHostIdAndStatus(@Param("hostId") Long hostId,
                                         @Param("status") BookingStatus status,
                                         Pageable pageable);
 
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     Page<Booking> findBookingsByStatus(BookingStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
     Page<Booking> findBookingsByStatusAndGuest(BookingStatus status, User guest, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findByGuestIdOrderByIdAsc(Long guestId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findByPropertyIdOrderByIdAsc(Long propertyId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findByPropertyHostIdOrderByIdAsc(Long hostId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findByPropertyHostIdAndStatusOrderByIdAsc(Long hostId, BookingStatus status,
+                                                              ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findBookingsByStatusOrderByIdAsc(BookingStatus status, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"guest", "property", "property.host"})
+    Window<Booking> findBookingsByStatusAndGuestOrderByIdAsc(BookingStatus status, User guest,
+                                                             ScrollPosition position, Limit limit);
 }
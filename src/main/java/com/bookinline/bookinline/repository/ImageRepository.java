@@ -0,0 +1,56 @@
+package com.bookinline.bookinline.repository;
+
+import com.bookinline.bookinline.entity.Image;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageRepository extends JpaRepository<Image, Long> {
+    @Query("SELECT i.imageUrl FROM Image i WHERE i.imageUrl IN :imageUrls")
+    List<String> findExistingImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
+    @Query("SELECT i.id FROM Image i WHERE i.derivativeStatus = :pending " +
+            "OR (i.derivativeStatus = :processing AND i.derivativeClaimedAt < :staleBefore) " +
+            "ORDER BY i.id")
+    List<Long> findDerivativeJobIds(@Param("pending") DerivativeStatus pending,
+                                    @Param("processing") DerivativeStatus processing,
+                                    @Param("staleBefore") LocalDateTime staleBefore,
+                                    Limit limit);
+
+    // Succeeds for exactly one worker, so an image is never processed twice concurrently.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Image i SET i.derivativeStatus = :processing, " +
+            "i.derivativeAttempts = i.derivativeAttempts + 1, i.derivativeClaimedAt = :now " +
+            "WHERE i.id = :id AND (i.derivativeStatus = :pending " +
+            "OR (i.derivativeStatus = :processing AND i.derivativeClaimedAt < :staleBefore))")
+    int claimDerivativeJob(@Param("id") Long id,
+                           @Param("pending") DerivativeStatus pending,
+                           @Param("processing") DerivativeStatus processing,
+                           @Param("now") LocalDateTime now,
+                           @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Image i SET i.derivativeStatus = :status, i.thumbnailUrl = :thumbnailUrl, " +
+            "i.mediumUrl = :mediumUrl WHERE i.id = :id")
+    int completeDerivativeJob(@Param("id") Long id,
+                              @Param("status") DerivativeStatus status,
+                              @Param("thumbnailUrl") String thumbnailUrl,
+                              @Param("mediumUrl") String mediumUrl);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Image i SET i.derivativeStatus = :status WHERE i.id = :id")
+    int updateDerivativeStatus(@Param("id") Long id, @Param("status") DerivativeStatus status);
+}
@@ -2,19 +2,79 @@ package com.bookinline.bookinline.repository;
 
 import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.enums.PropertyType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
 public interface PropertyRepository extends JpaRepository<Property, Integer> {
+    @EntityGraph(attributePaths = {"host"})
+    Page<Property> findAll(Pageable pageable);
+    @EntityGraph(attributePaths = {"host"})
     Page<Property> findByAvailableTrue(Pageable pageable);
+    @EntityGraph(attributePaths = {"host"})
     Page<Property> findAll(Specification<Property> specification, Pageable pageable);
     Optional<Property> findById(Long id);
+    // For the image-editing methods that run without a transaction, so no lazy load happens after the session closes
+    @EntityGraph(attributePaths = {"host", "images"})
+    Optional<Property> findWithImagesById(Long id);
+    @EntityGraph(attributePaths = {"host"})
     Page<Property> findByHostId(Long hostId, Pageable pageable);
+    @EntityGraph(attributePaths = {"host"})
     Page<Property> findPropertiesByPropertyType(PropertyType propertyType, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET p.ratingSum = p.ratingSum + :ratingDelta, " +
+            "p.reviewCount = p.reviewCount + :countDelta, " +
+            "p.averageRating = CASE WHEN p.reviewCount + :countDelta = 0 THEN 0.0 " +
+            "ELSE CAST(p.ratingSum + :ratingDelta AS double) / (p.reviewCount + :countDelta) END " +
+            "WHERE p.id = :propertyId")
+    int applyRatingDelta(@Param("propertyId") Long propertyId,
+                         @Param("ratingDelta") long ratingDelta,
+                         @Param("countDelta") int countDelta);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET " +
+            "p.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.property.id = p.id), " +
+            "p.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.property.id = p.id)")
+    int recalculateRatingAggregates();
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET p.averageRating = CASE WHEN p.reviewCount = 0 THEN 0.0 " +
+            "ELSE CAST(p.ratingSum AS double) / p.reviewCount END")
+    int recalculateAverageRatings();
+
+    @Query("SELECT p.bookingVersion FROM Property p WHERE p.id = :propertyId")
+    Optional<Long> findBookingVersionById(@Param("propertyId") Long propertyId);
+
+    // Not cleared: callers keep working with the bookings they loaded, and the version is never read through them
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Property p SET p.bookingVersion = p.bookingVersion + 1 WHERE p.id IN :propertyIds")
+    int incrementBookingVersions(@Param("propertyIds") Collection<Long> propertyIds);
+
+    @EntityGraph(attributePaths = {"host"})
+    Window<Property> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"host"})
+    Window<Property> findByAvailableTrueOrderByIdAsc(ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"host"})
+    Window<Property> findByHostIdOrderByIdAsc(Long hostId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"host"})
+    Window<Property> findPropertiesByPropertyTypeOrderByIdAsc(PropertyType propertyType, ScrollPosition position, Limit limit);
 }
@@ -1,8 +1,12 @@
 package com.bookinline.bookinline.repository;
 
 import com.bookinline.bookinline.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,9 +15,19 @@ import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
+    @EntityGraph(attributePaths = {"author", "property"})
+    Page<Review> findAll(Pageable pageable);
+    @EntityGraph(attributePaths = {"author", "property"})
     Page<Review> findByPropertyId(Long propertyId, Pageable pageable);
+    @EntityGraph(attributePaths = {"author", "property"})
     Page<Review> findByAuthorId(Long authorId, Pageable pageable);
     List<Review> findByPropertyId(Long propertyId);
     Optional<Review> findById(Long id);
     List<Review> findByPropertyIdAndAuthorId(Long propertyId, Long authorId);
+    @EntityGraph(attributePaths = {"author", "property"})
+    Window<Review> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"author", "property"})
+    Window<Review> findByPropertyIdOrderByIdAsc(Long propertyId, ScrollPosition position, Limit limit);
+    @EntityGraph(attributePaths = {"author", "property"})
+    Window<Review> findByAuthorIdOrderByIdAsc(Long authorId, ScrollPosition position, Limit limit);
 }
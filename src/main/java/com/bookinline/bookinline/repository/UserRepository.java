@@ -2,8 +2,11 @@ package com.bookinline.bookinline.repository;
 
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.entity.enums.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -15,4 +18,6 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findById(Long id);
     boolean existsByEmail(String email);
     Page<User> findUsersByStatus(UserStatus status, Pageable pageable);
+    Window<User> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+    Window<User> findUsersByStatusOrderByIdAsc(UserStatus status, ScrollPosition position, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.bookinline.bookinline.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * JWT signing configuration. Tokens are signed with {@code keys[activeKeyId]} and carry that id in the
+ * {@code kid} header; every entry in {@code keys} is accepted for verification, so a new key can be
+ * introduced and made active while tokens signed with the previous one are still valid.
+ */
+@ConfigurationProperties(prefix = "security.jwt")
+public record JwtProperties(String activeKeyId, Map<String, String> keys) {
+}
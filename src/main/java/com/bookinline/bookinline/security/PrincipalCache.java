@@ -0,0 +1,108 @@
+package com.bookinline.bookinline.security;
+
+import com.bookinline.bookinline.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived in-process cache of authenticated principals keyed by email, so that requests carrying a
+ * JWT do not load the user from the database every time. Entries are evicted explicitly whenever a user's
+ * credentials or status change and expire after {@code security.principal-cache.ttl} otherwise.
+ * <p>
+ * Evictions run after the surrounding transaction commits, so a concurrent request cannot cache the row
+ * as it was before the change. Cached values are detached copies without the entity's lazy collections.
+ * <p>
+ * Users are loaded outside the cache: a loader passed to {@code Cache.get} runs inside the map's synchronized
+ * compute, which would pin a virtual thread's carrier for the whole query.
+ */
+@Component
+public class PrincipalCache {
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private final boolean enabled;
+    private final Cache<String, UserDetails> principals;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(@Value("${security.principal-cache.enabled:true}") boolean enabled,
+                          @Value("${security.principal-cache.ttl:PT1M}") Duration ttl,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        UserDetails cached = principals.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+        // Concurrent misses may each load the user; only skip the put if an eviction ran meanwhile, as the
+        // loaded row may predate it
+        long invalidationsBeforeLoad = invalidations.get();
+        UserDetails principal = snapshot(loader.apply(email));
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            principals.put(email, principal);
+        }
+        return principal;
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        } else {
+            invalidate(email);
+        }
+    }
+
+    private void invalidate(String email) {
+        logger.debug("Evicting cached principal for email: {}", email);
+        invalidations.incrementAndGet();
+        principals.invalidate(email);
+    }
+
+    // Controllers read the id off the principal, so users stay User instances, just without properties/bookings
+    private static UserDetails snapshot(UserDetails userDetails) {
+        if (userDetails instanceof User user) {
+            return User.builder()
+                    .id(user.getId())
+                    .email(user.getEmail())
+                    .password(user.getPassword())
+                    .fullName(user.getFullName())
+                    .phoneNumber(user.getPhoneNumber())
+                    .status(user.getStatus())
+                    .statusDescription(user.getStatusDescription())
+                    .role(user.getRole())
+                    .build();
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails).build();
+    }
+}
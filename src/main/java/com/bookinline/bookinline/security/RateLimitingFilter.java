@@ -1,76 +1,100 @@
 package com.bookinline.bookinline.security;
 
-import io.github.bucket4j.Bucket4j;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.bookinline.bookinline.security.ratelimit.RateLimitTier;
+import com.bookinline.bookinline.security.ratelimit.RateLimiterStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-@Component
+/**
+ * Token-bucket rate limiter registered twice in {@link SecurityConfig}:
+ * <ul>
+ *     <li>{@link Stage#PRE_AUTH} runs before {@link JwtAuthFilter} and only looks at the remote address.
+ *     Requests without a bearer token get their final (anonymous) verdict here; requests with one are held
+ *     to a coarse per-IP ceiling, so floods are rejected before any token is parsed.</li>
+ *     <li>{@link Stage#POST_AUTH} runs after {@link JwtAuthFilter} and applies the user or admin quota
+ *     to the authenticated identity.</li>
+ * </ul>
+ */
 public class RateLimitingFilter extends OncePerRequestFilter {
+    public enum Stage {
+        PRE_AUTH,
+        POST_AUTH
+    }
+
+    private final Stage stage;
     private final boolean enabled;
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimiterStore rateLimiterStore;
+    private final Map<RateLimitTier, Counter> rejectedRequests = new EnumMap<>(RateLimitTier.class);
 
-    private RateLimitingFilter(@Value("${bucket4j.enabled:true}") boolean enabled) {
+    public RateLimitingFilter(Stage stage, boolean enabled,
+                              RateLimiterStore rateLimiterStore, MeterRegistry meterRegistry) {
+        this.stage = stage;
         this.enabled = enabled;
+        this.rateLimiterStore = rateLimiterStore;
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            rejectedRequests.put(tier, Counter.builder("rate_limit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("tier", tier.tagValue())
+                    .register(meterRegistry));
+        }
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String key = resolveKey(request);
-        Bucket bucket = buckets.computeIfAbsent(key, this::createBucket);
+        RateLimitTier tier = enabled ? resolveTier(request) : null;
+        if (tier == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = switch (tier) {
+            case ANONYMOUS, BEARER_IP -> request.getRemoteAddr();
+            case USER, ADMIN -> SecurityContextHolder.getContext().getAuthentication().getName();
+        };
 
-        if (!enabled || bucket.tryConsume(1)) {
+        if (rateLimiterStore.tryConsume(tier.tagValue() + ":" + key, tier)) {
             filterChain.doFilter(request, response);
         } else {
+            rejectedRequests.get(tier).increment();
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
             response.getWriter().write("Too many requests, try again later");
         }
     }
-    private String resolveKey(HttpServletRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null ||
-                !authentication.isAuthenticated() ||
-                authentication instanceof AnonymousAuthenticationToken) {
-            return request.getRemoteAddr();
-        } else {
-            return authentication.getName();
+
+    // Returns null when this stage does not limit the request.
+    private RateLimitTier resolveTier(HttpServletRequest request) {
+        if (stage == Stage.PRE_AUTH) {
+            String authHeader = request.getHeader("Authorization");
+            return authHeader != null && authHeader.startsWith("Bearer ")
+                    ? RateLimitTier.BEARER_IP
+                    : RateLimitTier.ANONYMOUS;
         }
-    }
-    private Bucket createBucket(String key) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Bandwidth limit;
 
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null ||
                 !authentication.isAuthenticated() ||
                 authentication instanceof AnonymousAuthenticationToken) {
-            limit = Bandwidth.classic(1000, Refill.greedy(100, Duration.ofMinutes(10)));
+            return null;
         } else if (authentication.getAuthorities().stream().anyMatch(
                 a -> a.getAuthority().equals("ROLE_ADMIN"))) {
-            limit = Bandwidth.classic(5000, Refill.greedy(1000, Duration.ofMinutes(10)));
+            return RateLimitTier.ADMIN;
         } else {
-            limit = Bandwidth.classic(2500, Refill.greedy(500, Duration.ofMinutes(10)));
+            return RateLimitTier.USER;
         }
-
-        return Bucket4j.builder()
-                .addLimit(limit)
-                .build();
     }
 }
@@ -1,10 +1,14 @@
 package com.bookinline.bookinline.security;
 
+import com.bookinline.bookinline.security.ratelimit.RateLimiterStore;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -30,13 +34,23 @@ public class SecurityConfig {
     private Environment environment;
     private final JwtAuthFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final RateLimitingFilter preAuthRateLimitingFilter;
+    private final RateLimitingFilter postAuthRateLimitingFilter;
     @Value("${app.front-end-url}")
     private String frontEndUrl;
 
     @Autowired
-    public SecurityConfig(JwtAuthFilter jwtAuthFilter, UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtAuthFilter jwtAuthFilter,
+                          UserDetailsService userDetailsService,
+                          RateLimiterStore rateLimiterStore,
+                          MeterRegistry meterRegistry,
+                          @Value("${bucket4j.enabled:true}") boolean rateLimitingEnabled) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.userDetailsService = userDetailsService;
+        this.preAuthRateLimitingFilter = new RateLimitingFilter(RateLimitingFilter.Stage.PRE_AUTH,
+                rateLimitingEnabled, rateLimiterStore, meterRegistry);
+        this.postAuthRateLimitingFilter = new RateLimitingFilter(RateLimitingFilter.Stage.POST_AUTH,
+                rateLimitingEnabled, rateLimiterStore, meterRegistry);
     }
 
     @Bean
@@ -61,6 +75,7 @@ public class SecurityConfig {
                     }
     })
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/api/s3/presigned-urls").authenticated()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/properties/filter",
@@ -69,6 +84,7 @@ public class SecurityConfig {
                                 "/api/reviews/property/{propertyId}",
                                 "/api/reviews/user/{userId}",
                                 "/api/bookings/property/{propertyId}/dates",
+                                "/api/bookings/property/{propertyId}/calendar",
                                 "/api/s3/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
@@ -87,6 +103,8 @@ public class SecurityConfig {
                                 "/api/properties/create",
                                 "/api/properties/host",
                                 "/api/properties/delete/{propertyId}",
+                                "/api/properties/{propertyId}/images/upload-slots",
+                                "/api/properties/{propertyId}/images/confirm",
                                 "/api/bookings/{bookingId}/confirm",
                                 "/api/bookings/property/{propertyId}",
                                 "/api/bookings/host").hasRole("HOST")
@@ -100,9 +118,19 @@ public class SecurityConfig {
                         sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authProvider())
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(preAuthRateLimitingFilter, JwtAuthFilter.class)
+                .addFilterAfter(postAuthRateLimitingFilter, JwtAuthFilter.class)
                 .build();
     }
 
+    // JwtAuthFilter only belongs in the security chain; keep Boot from also registering it as a servlet filter.
+    @Bean
+    public FilterRegistrationBean<JwtAuthFilter> jwtAuthFilterRegistration() {
+        FilterRegistrationBean<JwtAuthFilter> registration = new FilterRegistrationBean<>(jwtAuthFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationProvider authProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
@@ -0,0 +1,33 @@
+package com.bookinline.bookinline.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bucket;
+
+import java.time.Duration;
+
+/**
+ * Per-instance buckets held in a size-bounded cache. Buckets that have not been touched for
+ * {@code idleTimeout} are dropped; a returning client simply starts again with a full bucket.
+ */
+public class InMemoryRateLimiterStore implements RateLimiterStore {
+    private final Cache<String, Bucket> buckets;
+
+    public InMemoryRateLimiterStore(long maxSize, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitTier tier) {
+        Bucket bucket = buckets.get(key, k -> Bucket.builder().addLimit(tier.bandwidth()).build());
+        return bucket.tryConsume(1);
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookinline.bookinline.security.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.time.Duration;
+
+public enum RateLimitTier {
+    ANONYMOUS(1000, 100),
+    // per-IP ceiling for requests carrying a bearer token, checked before the token is parsed
+    BEARER_IP(10000, 2000),
+    USER(2500, 500),
+    ADMIN(5000, 1000);
+
+    private final Bandwidth bandwidth;
+    private final BucketConfiguration configuration;
+
+    RateLimitTier(long capacity, long refillTokens) {
+        this.bandwidth = Bandwidth.builder().capacity(capacity).refillGreedy(refillTokens, Duration.ofMinutes(10)).build();
+        this.configuration = BucketConfiguration.builder().addLimit(bandwidth).build();
+    }
+
+    public Bandwidth bandwidth() {
+        return bandwidth;
+    }
+
+    public BucketConfiguration configuration() {
+        return configuration;
+    }
+
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookinline.bookinline.security.ratelimit;
+
+/**
+ * Holds one token bucket per client key. Implementations decide where bucket state lives.
+ */
+public interface RateLimiterStore {
+    boolean tryConsume(String key, RateLimitTier tier);
+}
@@ -0,0 +1,24 @@
+package com.bookinline.bookinline.security.ratelimit;
+
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+
+/**
+ * Buckets shared by all instances through Redis, so the configured quota applies cluster-wide
+ * instead of once per replica. Bucket state is updated with compare-and-swap Lua scripts by Bucket4j.
+ */
+public class RedisRateLimiterStore implements RateLimiterStore {
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private final ProxyManager<String> proxyManager;
+
+    public RedisRateLimiterStore(ProxyManager<String> proxyManager) {
+        this.proxyManager = proxyManager;
+    }
+
+    @Override
+    public boolean tryConsume(String key, RateLimitTier tier) {
+        return proxyManager.builder()
+                .build(KEY_PREFIX + key, tier::configuration)
+                .tryConsume(1);
+    }
+}
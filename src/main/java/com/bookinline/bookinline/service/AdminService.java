@@ -20,4 +20,11 @@ public interface AdminService {
     UserResponsePage getUsersByStatus(String status, int page, int size, Long adminId);
     PropertyResponsePage getPropertiesByPropertyType(String type, int page, int size, Long adminId);
     BookingResponsePage getBookingsByStatus(String status, int page, int size, Long adminId);
+    UserResponsePage scrollAllUsers(String after, int size, Long adminId);
+    PropertyResponsePage scrollAllProperties(String after, int size, Long adminId);
+    BookingResponsePage scrollAllBookings(String after, int size, Long adminId);
+    ReviewResponsePage scrollAllReviews(String after, int size, Long adminId);
+    UserResponsePage scrollUsersByStatus(String status, String after, int size, Long adminId);
+    PropertyResponsePage scrollPropertiesByPropertyType(String type, String after, int size, Long adminId);
+    BookingResponsePage scrollBookingsByStatus(String status, String after, int size, Long adminId);
 }
@@ -1,10 +1,13 @@
 package com.bookinline.bookinline.service;
 
+import com.bookinline.bookinline.dto.AvailabilityCalendarDto;
 import com.bookinline.bookinline.dto.BookingDatesDto;
 import com.bookinline.bookinline.dto.BookingRequestDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.CalendarWindowDto;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface BookingService {
@@ -14,7 +17,14 @@ public interface BookingService {
     BookingResponsePage getBookingsByUserId(Long userId, int page, int size);
     BookingResponsePage getBookingsByPropertyId(Long propertyId, Long userId, int page, int size);
     List<BookingDatesDto> getBookedDatesByPropertyId(Long propertyId);
+    AvailabilityCalendarDto getAvailabilityCalendar(Long propertyId, LocalDate from, LocalDate to);
+    CalendarWindowDto resolveCalendarWindow(LocalDate from, LocalDate to);
+    long getBookingVersion(Long propertyId);
     BookingResponseDto confirmBooking(Long bookingId, Long userId);
     BookingResponsePage getBookingsByHostIdAndStatus(Long hostId, String status, int page, int size);
     BookingResponsePage getBookingsByGuestIdAndStatus(Long guestId, String status, int page, int size);
+    BookingResponsePage scrollBookingsByUserId(Long userId, String after, int size);
+    BookingResponsePage scrollBookingsByPropertyId(Long propertyId, Long userId, String after, int size);
+    BookingResponsePage scrollBookingsByHostIdAndStatus(Long hostId, String status, String after, int size);
+    BookingResponsePage scrollBookingsByGuestIdAndStatus(Long guestId, String status, String after, int size);
 }
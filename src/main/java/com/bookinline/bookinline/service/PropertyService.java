@@ -1,5 +1,8 @@
 package com.bookinline.bookinline.service;
 
+import com.bookinline.bookinline.dto.ImageUploadConfirmationDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotsRequestDto;
 import com.bookinline.bookinline.dto.PropertyFilterDto;
 import com.bookinline.bookinline.dto.PropertyRequestDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
@@ -13,9 +16,15 @@ public interface PropertyService {
                                        Long userId, List<MultipartFile> images);
     PropertyResponseDto updateProperty(Long propertyId, PropertyRequestDto propertyRequestDto,
                                        Long userId, List<MultipartFile> images);
+    List<ImageUploadSlotDto> createImageUploadSlots(Long propertyId, Long userId,
+                                                    ImageUploadSlotsRequestDto imageUploadSlotsRequestDto);
+    PropertyResponseDto confirmImageUploads(Long propertyId, Long userId,
+                                            ImageUploadConfirmationDto imageUploadConfirmationDto);
     void deleteProperty(Long propertyId, Long userId);
     PropertyResponseDto getPropertyById(Long id);
     PropertyResponsePage getAvailableProperties(int page, int size);
     PropertyResponsePage getFilteredProperties(PropertyFilterDto propertyFilterDto, int page, int size);
     PropertyResponsePage getPropertiesByHostId(Long hostId, int page, int size);
+    PropertyResponsePage scrollAvailableProperties(String after, int size);
+    PropertyResponsePage scrollPropertiesByHostId(Long hostId, String after, int size);
 }
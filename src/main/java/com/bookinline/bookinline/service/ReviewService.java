@@ -11,4 +11,6 @@ public interface ReviewService {
     ReviewResponsePage getReviewsByPropertyId(Long propertyId, int page, int size);
     ReviewResponsePage getReviewsByUserId(Long userId, int page, int size);
     boolean hasPersonLeftReview(Long propertyId, Long userId);
+    ReviewResponsePage scrollReviewsByPropertyId(Long propertyId, String after, int size);
+    ReviewResponsePage scrollReviewsByUserId(Long userId, String after, int size);
 }
@@ -3,8 +3,21 @@ package com.bookinline.bookinline.service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface S3Service {
     public String uploadFile(MultipartFile file) throws IOException;
+    public List<String> uploadFiles(List<MultipartFile> files) throws IOException;
+    public String uploadFile(String key, byte[] content, String contentType);
+    public byte[] downloadFile(String key);
+    public String getFileUrl(String key);
+    public String keyFromUrl(String url);
+    public Optional<Long> getObjectSize(String key);
+    public void deleteFile(String key);
     public String generatePresignedUrl(String key, int expirationInMinutes);
+    public Map<String, String> generatePresignedUrls(List<String> keys, int expirationInMinutes);
+    public String generatePresignedUploadUrl(String key, String contentType, long contentLength,
+                                             int expirationInMinutes);
 }
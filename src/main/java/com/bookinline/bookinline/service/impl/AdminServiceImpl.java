@@ -1,5 +1,6 @@
 package com.bookinline.bookinline.service.impl;
 
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
 import com.bookinline.bookinline.dto.*;
 import com.bookinline.bookinline.entity.Booking;
 import com.bookinline.bookinline.entity.Property;
@@ -13,6 +14,7 @@ import com.bookinline.bookinline.exception.PropertyNotFoundException;
 import com.bookinline.bookinline.exception.ReviewNotFoundException;
 import com.bookinline.bookinline.exception.UserNotFoundException;
 import com.bookinline.bookinline.mapper.BookingMapper;
+import com.bookinline.bookinline.mapper.CursorMapper;
 import com.bookinline.bookinline.mapper.PropertyMapper;
 import com.bookinline.bookinline.mapper.ReviewMapper;
 import com.bookinline.bookinline.mapper.UserMapper;
@@ -20,12 +22,16 @@ import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.ReviewRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.security.PrincipalCache;
 import com.bookinline.bookinline.service.AdminService;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -37,19 +43,29 @@ public class AdminServiceImpl implements AdminService {
     private PropertyRepository propertyRepository;
     private ReviewRepository reviewRepository;
     private BookingRepository bookingRepository;
+    private BookingAvailabilityIndex availabilityIndex;
+    private PropertyCacheEvictor propertyCacheEvictor;
+    private PrincipalCache principalCache;
     public AdminServiceImpl(UserRepository userRepository,
                              PropertyRepository propertyRepository,
                              ReviewRepository reviewRepository,
-                             BookingRepository bookingRepository) {
+                             BookingRepository bookingRepository,
+                             BookingAvailabilityIndex availabilityIndex,
+                             PropertyCacheEvictor propertyCacheEvictor,
+                             PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.propertyRepository = propertyRepository;
         this.reviewRepository = reviewRepository;
         this.bookingRepository = bookingRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.propertyCacheEvictor = propertyCacheEvictor;
+        this.principalCache = principalCache;
     }
 
     @Timed(
             value = "admin.getAllUsers",
             description = "Time taken to get all users by admin")
+    @Transactional(readOnly = true)
     @Override
     public UserResponseDto getUserById(Long userId, Long adminId) {
         logger.info("Admin {} is fetching user with ID {}", adminId, userId);
@@ -61,6 +77,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getPropertyById",
             description = "Time taken to get property by admin")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponseDto getPropertyById(Long propertyId, Long adminId) {
         logger.info("Admin {} is fetching property with ID {}", adminId, propertyId);
@@ -72,6 +89,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getBookingById",
             description = "Time taken to get booking by admin")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponseDto getBookingById(Long bookingId, Long adminId) {
         logger.info("Admin {} is fetching booking with ID {}", adminId, bookingId);
@@ -83,6 +101,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getReviewById",
             description = "Time taken to get review by admin")
+    @Transactional(readOnly = true)
     @Override
     public ReviewResponseDto getReviewById(Long reviewId, Long adminId) {
         logger.info("Admin {} is fetching review with ID {}", adminId, reviewId);
@@ -94,6 +113,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.warnUser",
             description = "Time taken to warn user by admin")
+    @Transactional
     @Override
     public UserResponseDto warnUser(Long userId, String reason, Long adminId) {
         logger.info("Admin {} is warning user {} for reason: {}", adminId, userId, reason);
@@ -102,12 +122,14 @@ public class AdminServiceImpl implements AdminService {
         user.setStatus(UserStatus.WARNED);
         user.setStatusDescription(reason);
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
         return UserMapper.mapToUserResponseDto(user);
     }
 
     @Timed(
             value = "admin.banUser",
             description = "Time taken to ban user by admin")
+    @Transactional
     @Override
     public UserResponseDto banUser(Long userId, String reason, Long adminId) {
         logger.info("Admin {} is banning user {} for reason: {}", adminId, userId, reason);
@@ -116,12 +138,14 @@ public class AdminServiceImpl implements AdminService {
         user.setStatus(UserStatus.BANNED);
         user.setStatusDescription(reason);
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
         return UserMapper.mapToUserResponseDto(user);
     }
 
     @Timed(
             value = "admin.unbanUser",
             description = "Time taken to unban user by admin")
+    @Transactional
     @Override
     public UserResponseDto unbanUser(Long userId, String reason, Long adminId) {
         logger.info("Admin {} is unbanning user {} for reason: {}", adminId, userId, reason);
@@ -130,12 +154,14 @@ public class AdminServiceImpl implements AdminService {
         user.setStatus(UserStatus.ACTIVE);
         user.setStatusDescription(reason);
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
         return UserMapper.mapToUserResponseDto(user);
     }
 
     @Timed(
             value = "admin.changePropertyAvailability",
             description = "Time taken to change property availability by admin")
+    @Transactional
     @Override
     public PropertyResponseDto changePropertyAvailability(Long propertyId, Long adminId) {
         logger.info("Admin {} is changing property availability with id {}", adminId, propertyId);
@@ -143,6 +169,7 @@ public class AdminServiceImpl implements AdminService {
                 .orElseThrow(() -> new PropertyNotFoundException("Property not found"));
         property.setAvailable(!property.getAvailable());
         propertyRepository.save(property);
+        propertyCacheEvictor.evictProperty(propertyId);
         logger.info("Property availability changed for property with ID: {}", propertyId);
         return PropertyMapper.mapToPropertyResponseDto(property);
     }
@@ -150,34 +177,41 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.cancelBooking",
             description = "Time taken to cancel booking by admin")
+    @Transactional
     @Override
     public BookingResponseDto cancelBooking(Long bookingId, Long adminId) {
         logger.info("Admin {} is cancelling booking {}", adminId, bookingId);
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new UserNotFoundException("Booking not found"));
+        boolean wasActive = booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.CONFIRMED;
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        if (wasActive) {
+            propertyRepository.incrementBookingVersions(List.of(booking.getProperty().getId()));
+            availabilityIndex.release(booking.getProperty().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
+        }
         return BookingMapper.mapToBookingResponseDto(booking);
     }
 
     @Timed(
             value = "admin.deleteReview",
             description = "Time taken to delete review by admin")
+    @Transactional
     @Override
     public void deleteReview(Long reviewId, Long adminId) {
         logger.info("Admin {} is deleting review {}", adminId, reviewId);
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found"));
         reviewRepository.delete(review);
-        Property property = review.getProperty();
-        property.setAverageRating(calculateAverageRating(review.getProperty().getId()));
-        propertyRepository.save(property);
+        propertyRepository.applyRatingDelta(review.getProperty().getId(), -review.getRating(), -1);
+        propertyCacheEvictor.evictProperty(review.getProperty().getId());
         logger.info("Average rating updated for property {}", review.getProperty().getId());
     }
 
     @Timed(
             value = "admin.getAllUsers",
             description = "Time taken to get all users by admin")
+    @Transactional(readOnly = true)
     @Override
     public UserResponsePage getAllUsers(int page, int size, Long adminId) {
         logger.info("Admin {} is fetching all users with pagination: page {}, size {}", adminId, page, size);
@@ -191,6 +225,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getAllProperties",
             description = "Time taken to get all properties by admin")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponsePage getAllProperties(int page, int size, Long adminId) {
         logger.info("Admin {} is fetching all properties with pagination: page {}, size {}", adminId, page, size);
@@ -204,6 +239,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getAllBookings",
             description = "Time taken to get all bookings by admin")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getAllBookings(int page, int size, Long adminId) {
         logger.info("Admin {} is fetching all bookings with pagination: page {}, size {}", adminId, page, size);
@@ -217,6 +253,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getAllReviews",
             description = "Time taken to get all reviews by admin")
+    @Transactional(readOnly = true)
     @Override
     public ReviewResponsePage getAllReviews(int page, int size, Long adminId) {
         logger.info("Admin {} is fetching all reviews with pagination: page {}, size {}", adminId, page, size);
@@ -230,6 +267,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getUsersByStatus",
             description = "Time taken to get users by status")
+    @Transactional(readOnly = true)
     @Override
     public UserResponsePage getUsersByStatus(String status, int page, int size, Long adminId) {
         logger.info("Admin {} is fetching users with status {} with pagination: page {}, size {}", adminId, status, page, size);
@@ -244,6 +282,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getPropertiesByTypeAndAvailability",
             description = "Time taken to get properties by type and availability")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponsePage getPropertiesByPropertyType(String type, int page, int size, Long adminId) {
         logger.info("Admin {} is fetching properties of type {} with pagination: page {}, size {}", adminId, type, page, size);
@@ -258,6 +297,7 @@ public class AdminServiceImpl implements AdminService {
     @Timed(
             value = "admin.getBookingsByStatus",
             description = "Time taken to get bookings by status")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getBookingsByStatus(String status, int page, int size, Long adminId) {
         logger.info("Admin {} is fetching bookings with status {} with pagination: page {}, size {}", adminId, status, page, size);
@@ -270,22 +310,89 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Timed(
-            value = "admin.calculateAverageRating",
-            description = "Time taken to calculate average rating inside admin service")
-    private double calculateAverageRating(Long propertyId) {
-        logger.info("Calculating average rating for property with ID: {}", propertyId);
+            value = "admin.scrollAllUsers",
+            description = "Time taken to scroll all users by admin")
+    @Transactional(readOnly = true)
+    @Override
+    public UserResponsePage scrollAllUsers(String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling all users after cursor {}, size {}", adminId, after, size);
+        Window<User> users = userRepository.findAllByOrderByIdAsc(
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return UserMapper.mapToUserResponsePage(users, size);
+    }
 
-        List<Review> reviews = reviewRepository.findByPropertyId(propertyId);
-        if (reviews.isEmpty()) {
-            logger.info("No reviews found for property with ID: {}", propertyId);
-            return 0.0;
-        }
-        double totalRating = reviews.stream()
-                .mapToDouble(Review::getRating)
-                .sum();
-        double averageRating = totalRating / reviews.size();
-        logger.info("Average rating for property with ID: {} is {}", propertyId, averageRating);
+    @Timed(
+            value = "admin.scrollAllProperties",
+            description = "Time taken to scroll all properties by admin")
+    @Transactional(readOnly = true)
+    @Override
+    public PropertyResponsePage scrollAllProperties(String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling all properties after cursor {}, size {}", adminId, after, size);
+        Window<Property> properties = propertyRepository.findAllByOrderByIdAsc(
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return PropertyMapper.mapToPropertyResponsePage(properties, size);
+    }
 
-        return averageRating;
+    @Timed(
+            value = "admin.scrollAllBookings",
+            description = "Time taken to scroll all bookings by admin")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollAllBookings(String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling all bookings after cursor {}, size {}", adminId, after, size);
+        Window<Booking> bookings = bookingRepository.findAllByOrderByIdAsc(
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return BookingMapper.mapToBookingResponsePage(bookings, size);
+    }
+
+    @Timed(
+            value = "admin.scrollAllReviews",
+            description = "Time taken to scroll all reviews by admin")
+    @Transactional(readOnly = true)
+    @Override
+    public ReviewResponsePage scrollAllReviews(String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling all reviews after cursor {}, size {}", adminId, after, size);
+        Window<Review> reviews = reviewRepository.findAllByOrderByIdAsc(
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return ReviewMapper.mapToReviewResponsePage(reviews, size);
+    }
+
+    @Timed(
+            value = "admin.scrollUsersByStatus",
+            description = "Time taken to scroll users by status")
+    @Transactional(readOnly = true)
+    @Override
+    public UserResponsePage scrollUsersByStatus(String status, String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling users with status {} after cursor {}, size {}", adminId, status, after, size);
+        UserStatus userStatus = UserStatus.valueOf(status.toUpperCase());
+        Window<User> users = userRepository.findUsersByStatusOrderByIdAsc(userStatus,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return UserMapper.mapToUserResponsePage(users, size);
+    }
+
+    @Timed(
+            value = "admin.scrollPropertiesByPropertyType",
+            description = "Time taken to scroll properties by type")
+    @Transactional(readOnly = true)
+    @Override
+    public PropertyResponsePage scrollPropertiesByPropertyType(String type, String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling properties of type {} after cursor {}, size {}", adminId, type, after, size);
+        PropertyType propertyType = PropertyType.valueOf(type.toUpperCase());
+        Window<Property> properties = propertyRepository.findPropertiesByPropertyTypeOrderByIdAsc(propertyType,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return PropertyMapper.mapToPropertyResponsePage(properties, size);
+    }
+
+    @Timed(
+            value = "admin.scrollBookingsByStatus",
+            description = "Time taken to scroll bookings by status")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollBookingsByStatus(String status, String after, int size, Long adminId) {
+        logger.info("Admin {} is scrolling bookings with status {} after cursor {}, size {}", adminId, status, after, size);
+        BookingStatus bookingStatus = BookingStatus.valueOf(status.toUpperCase());
+        Window<Booking> bookings = bookingRepository.findBookingsByStatusOrderByIdAsc(bookingStatus,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        return BookingMapper.mapToBookingResponsePage(bookings, size);
     }
 }
@@ -23,6 +23,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.bookinline.bookinline.repository.UserRepository;
 import com.bookinline.bookinline.security.JwtService;
 import com.bookinline.bookinline.service.AuthService;
@@ -61,6 +62,7 @@ public class AuthServiceImpl implements AuthService {
     @Timed(
             value = "auth.register",
             description = "Time taken to register a user")
+    @Transactional
     @Override
     public AuthResponse register(RegisterRequest request, HttpServletResponse response) {
         logger.info("Attempting to register user with email: {}", request.getEmail());
@@ -101,6 +103,7 @@ public class AuthServiceImpl implements AuthService {
         return new AuthResponse(accessToken);
     }
 
+    // Not @Transactional: a transaction would keep its connection checked out through the BCrypt check
     @Timed(
             value = "auth.login",
             description = "Time taken to login a user")
@@ -144,6 +147,7 @@ public class AuthServiceImpl implements AuthService {
     @Timed(
             value = "auth.refreshToken",
             description = "Time taken to refresh a token")
+    @Transactional(readOnly = true)
     @Override
     public AuthResponse refreshToken(String refreshToken, HttpServletResponse response) {
         if (refreshToken == null || jwtService.isTokenExpired(refreshToken)) {
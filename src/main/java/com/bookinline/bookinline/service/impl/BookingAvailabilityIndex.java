@@ -0,0 +1,234 @@
+package com.bookinline.bookinline.service.impl;
+
+import com.bookinline.bookinline.dto.PropertyBookingDatesDto;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory occupancy calendar of PENDING/CONFIRMED bookings, one bitset per property per year
+ * where bit {@code dayOfYear - 1} marks an occupied night. Entries are reloaded from the database
+ * once they are older than {@code booking.availability-index.max-age}.
+ * <p>
+ * Each instance keeps its own snapshot, so bookings and cancellations made on another instance stay invisible
+ * here for up to {@code max-age}. An occupied answer is confirmed against the database; a free one is only a hint.
+ * What actually prevents a double booking is the {@code booking_no_overlapping_stays} exclusion constraint,
+ * which exists on PostgreSQL only: on H2 (tests, local dev) two instances can still book the same nights.
+ * <p>
+ * Writes are applied once the surrounding transaction commits, so a rollback leaves no trace here. Every load
+ * and write takes a generation number, and a loaded snapshot only replaces a calendar that has not been written
+ * since the load started, so a commit landing during a reload is not lost.
+ */
+@Component
+public class BookingAvailabilityIndex {
+    private static final Logger logger = LoggerFactory.getLogger(BookingAvailabilityIndex.class);
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    private final BookingRepository bookingRepository;
+    private final boolean enabled;
+    private final long maxAgeMillis;
+    private final Map<Long, PropertyCalendar> calendars = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BookingAvailabilityIndex(BookingRepository bookingRepository,
+                                    @Value("${booking.availability-index.enabled:true}") boolean enabled,
+                                    @Value("${booking.availability-index.max-age:PT5M}") Duration maxAge) {
+        this.bookingRepository = bookingRepository;
+        this.enabled = enabled;
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        logger.info("Rebuilding booking availability index");
+        long loadedAt = System.currentTimeMillis();
+        long loadGeneration = generation.incrementAndGet();
+        Map<Long, PropertyCalendar> rebuilt = new HashMap<>();
+        try (Stream<PropertyBookingDatesDto> bookingDates =
+                     bookingRepository.streamBookingDates(ACTIVE_STATUSES, LocalDate.now())) {
+            bookingDates.forEach(dates -> rebuilt
+                    .computeIfAbsent(dates.getPropertyId(), id -> new PropertyCalendar(loadedAt, loadGeneration))
+                    .occupy(dates.getCheckInDate(), dates.getCheckOutDate(), loadGeneration));
+        }
+        // Dropping a calendar only forces a reload, so whatever the rebuild did not see is simply removed
+        calendars.keySet().retainAll(rebuilt.keySet());
+        rebuilt.forEach(this::replaceUnlessWrittenSince);
+        logger.info("Booking availability index rebuilt for {} properties", rebuilt.size());
+    }
+
+    public boolean isAvailable(Long propertyId, LocalDate checkIn, LocalDate checkOut) {
+        return calendarFor(propertyId).isFree(checkIn, checkOut);
+    }
+
+    public void occupy(Long propertyId, LocalDate checkIn, LocalDate checkOut) {
+        if (!enabled) {
+            return;
+        }
+        // Without a calendar there is nothing to update: the next read loads the committed booking
+        afterCommit(() -> calendars.computeIfPresent(propertyId, (id, calendar) -> {
+            calendar.occupy(checkIn, checkOut, generation.incrementAndGet());
+            return calendar;
+        }));
+    }
+
+    public void release(Long propertyId, LocalDate checkIn, LocalDate checkOut) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> calendars.computeIfPresent(propertyId, (id, calendar) -> {
+            calendar.release(checkIn, checkOut, generation.incrementAndGet());
+            return calendar;
+        }));
+    }
+
+    // Also on rollback: the entry is dropped because it is suspected stale, not because of this transaction
+    public void evict(Long propertyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    calendars.remove(propertyId);
+                }
+            });
+        } else {
+            calendars.remove(propertyId);
+        }
+    }
+
+    private PropertyCalendar calendarFor(Long propertyId) {
+        PropertyCalendar calendar = calendars.get(propertyId);
+        if (calendar == null || calendar.isOlderThan(maxAgeMillis)) {
+            calendar = replaceUnlessWrittenSince(propertyId, load(propertyId));
+        }
+        return calendar;
+    }
+
+    // Runs under the map's lock for the key, as do occupy and release, so no write can slip in between the check
+    // and the replacement
+    private PropertyCalendar replaceUnlessWrittenSince(Long propertyId, PropertyCalendar loaded) {
+        return calendars.merge(propertyId, loaded,
+                (live, fresh) -> live.writtenSince(fresh.loadGeneration) ? live : fresh);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private PropertyCalendar load(Long propertyId) {
+        logger.debug("Loading availability calendar for property ID: {}", propertyId);
+        long loadGeneration = generation.incrementAndGet();
+        PropertyCalendar calendar = new PropertyCalendar(System.currentTimeMillis(), loadGeneration);
+        bookingRepository.findBookingDatesByPropertyId(propertyId, ACTIVE_STATUSES, LocalDate.now())
+                .forEach(dates -> calendar.occupy(dates.getCheckInDate(), dates.getCheckOutDate(), loadGeneration));
+        return calendar;
+    }
+
+    private static final class PropertyCalendar {
+        private final long loadedAt;
+        private final long loadGeneration;
+        private final Map<Integer, BitSet> nightsByYear = new HashMap<>();
+        private long writeGeneration;
+
+        private PropertyCalendar(long loadedAt, long loadGeneration) {
+            this.loadedAt = loadedAt;
+            this.loadGeneration = loadGeneration;
+            this.writeGeneration = loadGeneration;
+        }
+
+        private boolean isOlderThan(long maxAgeMillis) {
+            return System.currentTimeMillis() - loadedAt > maxAgeMillis;
+        }
+
+        private synchronized boolean writtenSince(long generation) {
+            return writeGeneration > generation;
+        }
+
+        private synchronized boolean isFree(LocalDate checkIn, LocalDate checkOut) {
+            return forEachYear(checkIn, checkOut, (year, fromIndex, toIndex) -> {
+                BitSet nights = nightsByYear.get(year);
+                if (nights == null) {
+                    return true;
+                }
+                int occupied = nights.nextSetBit(fromIndex);
+                return occupied == -1 || occupied >= toIndex;
+            });
+        }
+
+        private synchronized void occupy(LocalDate checkIn, LocalDate checkOut, long generation) {
+            writeGeneration = Math.max(writeGeneration, generation);
+            forEachYear(checkIn, checkOut, (year, fromIndex, toIndex) -> {
+                nightsByYear.computeIfAbsent(year, y -> new BitSet(366)).set(fromIndex, toIndex);
+                return true;
+            });
+        }
+
+        private synchronized void release(LocalDate checkIn, LocalDate checkOut, long generation) {
+            writeGeneration = Math.max(writeGeneration, generation);
+            forEachYear(checkIn, checkOut, (year, fromIndex, toIndex) -> {
+                BitSet nights = nightsByYear.get(year);
+                if (nights != null) {
+                    nights.clear(fromIndex, toIndex);
+                    if (nights.isEmpty()) {
+                        nightsByYear.remove(year);
+                    }
+                }
+                return true;
+            });
+        }
+
+        // Splits the half-open range of nights [checkIn, checkOut) into per-year bit ranges.
+        private static boolean forEachYear(LocalDate checkIn, LocalDate checkOut, YearRangeVisitor visitor) {
+            LocalDate cursor = checkIn;
+            while (cursor.isBefore(checkOut)) {
+                LocalDate nextYear = LocalDate.of(cursor.getYear() + 1, 1, 1);
+                int fromIndex = cursor.getDayOfYear() - 1;
+                int toIndex = checkOut.isBefore(nextYear) ? checkOut.getDayOfYear() - 1 : cursor.lengthOfYear();
+                if (!visitor.visit(cursor.getYear(), fromIndex, toIndex)) {
+                    return false;
+                }
+                cursor = nextYear;
+            }
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface YearRangeVisitor {
+        boolean visit(int year, int fromIndex, int toIndex);
+    }
+}
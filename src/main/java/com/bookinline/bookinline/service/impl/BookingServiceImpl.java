@@ -1,48 +1,67 @@
 package com.bookinline.bookinline.service.impl;
 
+import com.bookinline.bookinline.dto.AvailabilityCalendarDto;
 import com.bookinline.bookinline.dto.BookingDatesDto;
 import com.bookinline.bookinline.dto.BookingRequestDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.CalendarWindowDto;
+import com.bookinline.bookinline.dto.PropertyBookingDatesDto;
 import com.bookinline.bookinline.entity.Booking;
 import com.bookinline.bookinline.entity.enums.BookingStatus;
 import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.exception.*;
+import com.bookinline.bookinline.mapper.CursorMapper;
 import com.bookinline.bookinline.mapper.BookingMapper;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
 import com.bookinline.bookinline.service.BookingService;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
 public class BookingServiceImpl implements BookingService {
     private static final Logger logger = LoggerFactory.getLogger(BookingServiceImpl.class);
+    private static final String EXCLUSION_VIOLATION_SQL_STATE = "23P01";
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+    private static final int DEFAULT_CALENDAR_MONTHS = 12;
+    private static final int MAX_CALENDAR_MONTHS = 24;
 
     private final BookingRepository bookingRepository;
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
 
     public BookingServiceImpl(BookingRepository bookingRepository,
                               PropertyRepository propertyRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              BookingAvailabilityIndex availabilityIndex) {
         this.bookingRepository = bookingRepository;
         this.propertyRepository = propertyRepository;
         this.userRepository = userRepository;
+        this.availabilityIndex = availabilityIndex;
     }
 
     @Timed(
             value = "booking.bookProperty",
             description = "Time taken to book a property")
+    @Transactional
     @Override
     public BookingResponseDto bookProperty(BookingRequestDto bookingRequestDto, Long propertyId, Long userId) {
         logger.info("Attempting to book property with ID: {} for user with ID: {}", propertyId, userId);
@@ -51,23 +70,36 @@ public class BookingServiceImpl implements BookingService {
             logger.warn("Invalid booking dates: Check-in date is after or same as check-out date");
             throw new InvalidBookingDatesException("Check-in date must be before check-out date");
         }
-        if (!isPropertyAvailable(propertyId, bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())) {
-            logger.warn("Property with ID: {} is not available for date range: {} to {}",
-                    propertyId, bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate());
-            throw new PropertyNotAvailableException("Property is not available for this date range");
-        }
         Property property = propertyRepository.findById(propertyId)
                 .orElseThrow(() -> {
                     logger.error("Property with ID: {} not found", propertyId);
                     return new PropertyNotFoundException("Property not found");
                 });
+        if (!isPropertyAvailable(property, bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())) {
+            logger.warn("Property with ID: {} is not available for date range: {} to {}",
+                    propertyId, bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate());
+            throw new PropertyNotAvailableException("Property is not available for this date range");
+        }
         User guest = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     logger.error("User with ID: {} not found", userId);
                     return new UserNotFoundException("User not found");
                 });
         Booking booking = BookingMapper.mapToBookingEntity(bookingRequestDto, property, guest);
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking;
+        try {
+            savedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (DataIntegrityViolationException e) {
+            if (!isOverlappingStayViolation(e)) {
+                throw e;
+            }
+            logger.warn("Booking for property with ID: {} overlaps an existing stay from {} to {}",
+                    propertyId, bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate());
+            availabilityIndex.evict(propertyId);
+            throw new PropertyNotAvailableException("Property is not available for this date range");
+        }
+        propertyRepository.incrementBookingVersions(List.of(propertyId));
+        availabilityIndex.occupy(propertyId, savedBooking.getCheckInDate(), savedBooking.getCheckOutDate());
         logger.info("Booking has been saved successfully with id: {}", savedBooking.getId());
         return BookingMapper.mapToBookingResponseDto(savedBooking);
     }
@@ -75,6 +107,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.cancelBooking",
             description = "Time taken to cancel a booking")
+    @Transactional
     @Override
     public BookingResponseDto cancelBooking(Long bookingId, Long userId) {
         logger.info("Attempting to cancel booking with ID: {} for user ID: {}", bookingId, userId);
@@ -92,8 +125,13 @@ public class BookingServiceImpl implements BookingService {
             logger.warn("Unauthorized action: User with ID: {} is not the guest of booking with ID: {}", userId, bookingId);
             throw new UnauthorizedActionException("You are not able to cancel this booking");
         }
+        boolean wasActive = booking.getStatus() == BookingStatus.PENDING || booking.getStatus() == BookingStatus.CONFIRMED;
         booking.setStatus(BookingStatus.CANCELLED);
         Booking updatedBooking = bookingRepository.save(booking);
+        if (wasActive) {
+            propertyRepository.incrementBookingVersions(List.of(booking.getProperty().getId()));
+            availabilityIndex.release(booking.getProperty().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
+        }
         logger.info("Booking with ID: {} has been cancelled successfully", bookingId);
         return BookingMapper.mapToBookingResponseDto(updatedBooking);
     }
@@ -101,6 +139,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.getBookingById",
             description = "Time taken to get booking by ID")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponseDto getBookingById(Long bookingId, Long userId) {
         logger.info("Fetching booking with ID: {} for user ID: {}", bookingId, userId);
@@ -126,6 +165,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.getBookingsByUserId",
             description = "Time taken to get bookings by user ID")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getBookingsByUserId(Long userId, int page, int size) {
         logger.info("Fetching booking for user ID: {}, page: {}, size: {}", userId, page, size);
@@ -139,6 +179,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.getBookingsByPropertyId",
             description = "Time taken to get bookings by property ID")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getBookingsByPropertyId(Long propertyId, Long userId, int page, int size) {
         logger.info("Fetching bookings for property ID: {}, page: {}, size: {}", propertyId, page, size);
@@ -161,6 +202,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.getBookedDatesByPropertyId",
             description = "Time taken to get booked dates by property ID")
+    @Transactional(readOnly = true)
     @Override
     public List<BookingDatesDto> getBookedDatesByPropertyId(Long propertyId) {
         logger.info("Fetching bookings for property ID: {}", propertyId);
@@ -176,9 +218,80 @@ public class BookingServiceImpl implements BookingService {
                 .toList();
     }
 
+    @Timed(
+            value = "booking.getAvailabilityCalendar",
+            description = "Time taken to build a property availability calendar")
+    @Transactional(readOnly = true)
+    @Override
+    public AvailabilityCalendarDto getAvailabilityCalendar(Long propertyId, LocalDate from, LocalDate to) {
+        logger.info("Fetching availability calendar for property ID: {} from {} to {}", propertyId, from, to);
+        if (propertyRepository.findById(propertyId).isEmpty()) {
+            logger.error("Property with ID: {} not found", propertyId);
+            throw new PropertyNotFoundException("Property not found");
+        }
+        CalendarWindowDto window = resolveCalendarWindow(from, to);
+        LocalDate windowStart = window.getFrom();
+        LocalDate windowEnd = window.getTo();
+        // Read from the database, not the per-instance index, so the body always matches the shared booking version
+        List<LocalDate[]> occupied = coalesce(
+                bookingRepository.findBookingDatesByPropertyId(propertyId, ACTIVE_STATUSES, windowStart),
+                windowStart, windowEnd);
+        logger.info("Found {} occupied ranges for property ID: {}", occupied.size(), propertyId);
+        return new AvailabilityCalendarDto(propertyId, windowStart, windowEnd, occupied);
+    }
+
+    // The window moves with today, so callers caching the calendar must key it on the resolved dates
+    @Override
+    public CalendarWindowDto resolveCalendarWindow(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate windowStart = from == null || from.isBefore(today) ? today : from;
+        LocalDate windowEnd = to == null ? windowStart.plusMonths(DEFAULT_CALENDAR_MONTHS) : to;
+        if (!windowEnd.isAfter(windowStart) || windowEnd.isAfter(windowStart.plusMonths(MAX_CALENDAR_MONTHS))) {
+            logger.error("Invalid calendar window {} to {}", windowStart, windowEnd);
+            throw new InvalidBookingDatesException(
+                    "Calendar window must end after it starts and span at most " + MAX_CALENDAR_MONTHS + " months");
+        }
+        return new CalendarWindowDto(windowStart, windowEnd);
+    }
+
+    @Timed(
+            value = "booking.getBookingVersion",
+            description = "Time taken to look up a property booking version")
+    @Transactional(readOnly = true)
+    @Override
+    public long getBookingVersion(Long propertyId) {
+        return propertyRepository.findBookingVersionById(propertyId)
+                .orElseThrow(() -> {
+                    logger.error("Property with ID: {} not found", propertyId);
+                    return new PropertyNotFoundException("Property not found");
+                });
+    }
+
+    // Merges overlapping and back-to-back stays into [checkIn, checkOut) pairs clipped to [from, to)
+    private static List<LocalDate[]> coalesce(List<PropertyBookingDatesDto> stays, LocalDate from, LocalDate to) {
+        List<LocalDate[]> ranges = new ArrayList<>();
+        stays.stream()
+                .filter(stay -> stay.getCheckInDate().isBefore(to) && stay.getCheckOutDate().isAfter(from))
+                .sorted(Comparator.comparing(PropertyBookingDatesDto::getCheckInDate))
+                .forEach(stay -> {
+                    LocalDate checkIn = stay.getCheckInDate().isBefore(from) ? from : stay.getCheckInDate();
+                    LocalDate checkOut = stay.getCheckOutDate().isAfter(to) ? to : stay.getCheckOutDate();
+                    LocalDate[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+                    if (last != null && !checkIn.isAfter(last[1])) {
+                        if (checkOut.isAfter(last[1])) {
+                            last[1] = checkOut;
+                        }
+                    } else {
+                        ranges.add(new LocalDate[]{checkIn, checkOut});
+                    }
+                });
+        return ranges;
+    }
+
     @Timed(
             value = "booking.confirmBooking",
             description = "Time taken to confirm a booking")
+    @Transactional
     @Override
     public BookingResponseDto confirmBooking(Long bookingId, Long userId) {
         logger.info("Attempting to confirm booking with ID: {} for user ID: {}", bookingId, userId);
@@ -202,6 +315,8 @@ public class BookingServiceImpl implements BookingService {
         }
         booking.setStatus(BookingStatus.CONFIRMED);
         Booking updatedBooking = bookingRepository.save(booking);
+        propertyRepository.incrementBookingVersions(List.of(booking.getProperty().getId()));
+        availabilityIndex.occupy(booking.getProperty().getId(), booking.getCheckInDate(), booking.getCheckOutDate());
         logger.info("Booking with ID: {} successfully confirmed", bookingId);
         return BookingMapper.mapToBookingResponseDto(updatedBooking);
     }
@@ -210,6 +325,7 @@ public class BookingServiceImpl implements BookingService {
             value = "booking.getBookingsByHostId",
             description = "Time taken to get bookings by host ID"
     )
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getBookingsByHostIdAndStatus(Long hostId, String status, int page, int size) {
         logger.info("Fetching bookings for host ID: {}, status: {}, page: {}, size: {}", hostId, status, page, size);
@@ -233,6 +349,7 @@ public class BookingServiceImpl implements BookingService {
     @Timed(
             value = "booking.getBookingsByGuestIdAndStatus",
             description = "Time taken to get bookings by guest ID and status")
+    @Transactional(readOnly = true)
     @Override
     public BookingResponsePage getBookingsByGuestIdAndStatus(Long guestId, String status, int page, int size) {
         logger.info("Fetching bookings for guest ID: {}, status: {}, page: {}, size: {}", guestId, status, page, size);
@@ -252,14 +369,87 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.mapToBookingResponsePage(bookingPage);
     }
 
+    @Timed(
+            value = "booking.scrollBookingsByUserId",
+            description = "Time taken to scroll bookings by user ID")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollBookingsByUserId(Long userId, String after, int size) {
+        logger.info("Scrolling bookings for user ID: {} after cursor: {}, size: {}", userId, after, size);
+        Window<Booking> bookingWindow = bookingRepository.findByGuestIdOrderByIdAsc(userId,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return BookingMapper.mapToBookingResponsePage(bookingWindow, size);
+    }
+
+    @Timed(
+            value = "booking.scrollBookingsByPropertyId",
+            description = "Time taken to scroll bookings by property ID")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollBookingsByPropertyId(Long propertyId, Long userId, String after, int size) {
+        logger.info("Scrolling bookings for property ID: {} after cursor: {}, size: {}", propertyId, after, size);
+        Property property = propertyRepository.findById(propertyId)
+                .orElseThrow(() -> {
+                    logger.error("Property with ID: {} not found", propertyId);
+                    return new PropertyNotFoundException("Property not found");
+                });
+        if (!property.getHost().getId().equals(userId)) {
+            logger.warn("Unauthorized action: User with ID: {} is not the host of property with ID: {}", userId, propertyId);
+            throw new UnauthorizedActionException("You are not able to view bookings for this property");
+        }
+        Window<Booking> bookingWindow = bookingRepository.findByPropertyIdOrderByIdAsc(propertyId,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return BookingMapper.mapToBookingResponsePage(bookingWindow, size);
+    }
+
+    @Timed(
+            value = "booking.scrollBookingsByHostIdAndStatus",
+            description = "Time taken to scroll bookings by host ID and status")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollBookingsByHostIdAndStatus(Long hostId, String status, String after, int size) {
+        logger.info("Scrolling bookings for host ID: {}, status: {} after cursor: {}, size: {}", hostId, status, after, size);
+        Window<Booking> bookingWindow;
+        if (status.equals("any")) {
+            bookingWindow = bookingRepository.findByPropertyHostIdOrderByIdAsc(hostId,
+                    CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        } else {
+            BookingStatus bookingStatus = BookingStatus.valueOf(status.toUpperCase());
+            bookingWindow = bookingRepository.findByPropertyHostIdAndStatusOrderByIdAsc(hostId, bookingStatus,
+                    CursorMapper.mapToScrollPosition(after), Limit.of(size));
+        }
+
+        return BookingMapper.mapToBookingResponsePage(bookingWindow, size);
+    }
+
+    @Timed(
+            value = "booking.scrollBookingsByGuestIdAndStatus",
+            description = "Time taken to scroll bookings by guest ID and status")
+    @Transactional(readOnly = true)
+    @Override
+    public BookingResponsePage scrollBookingsByGuestIdAndStatus(Long guestId, String status, String after, int size) {
+        logger.info("Scrolling bookings for guest ID: {}, status: {} after cursor: {}, size: {}", guestId, status, after, size);
+        BookingStatus bookingStatus = BookingStatus.valueOf(status.toUpperCase());
+        User guest = userRepository.findById(guestId)
+                .orElseThrow(() -> {
+                    logger.error("User with ID: {} not found", guestId);
+                    return new UserNotFoundException("User not found");
+                });
+        Window<Booking> bookingWindow = bookingRepository.findBookingsByStatusAndGuestOrderByIdAsc(bookingStatus, guest,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return BookingMapper.mapToBookingResponsePage(bookingWindow, size);
+    }
+
     @Timed(
             value = "booking.isPropertyAvailable",
             description = "Time taken to check property availability")
-    private boolean isPropertyAvailable(Long propertyId, LocalDate startDate, LocalDate endDate) {
+    private boolean isPropertyAvailable(Property property, LocalDate startDate, LocalDate endDate) {
+        Long propertyId = property.getId();
         logger.info("Checking availability for property ID: {} from {} to {}", propertyId, startDate, endDate);
         LocalDate today = LocalDate.now();
-        Property property = propertyRepository.findById(propertyId)
-                .orElseThrow(() -> new PropertyNotFoundException("Property not found"));
         if (!property.getAvailable()) {
             logger.warn("Property ID: {} is not available", propertyId);
             return false;
@@ -270,16 +460,29 @@ public class BookingServiceImpl implements BookingService {
             throw new InvalidBookingDatesException("Start date must be today or in the future");
         }
 
-        List<Booking> bookings = bookingRepository.findByPropertyIdAndStatuses
-                (propertyId, List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED));
-        for (Booking booking : bookings) {
-            if (!(startDate.isAfter(booking.getCheckOutDate()) || startDate.isEqual(booking.getCheckOutDate())) &&
-                    !(endDate.isBefore(booking.getCheckInDate()) || endDate.isEqual(booking.getCheckInDate()))) {
-                return false;
+        // The index is per instance and up to max-age stale in both directions: an occupied answer is re-checked
+        // here, a free one is trusted, and a booking made meanwhile on another instance is only stopped by the
+        // PostgreSQL exclusion constraint (H2 has none, so tests and local dev can double-book)
+        boolean available = availabilityIndex.isEnabled()
+                && availabilityIndex.isAvailable(propertyId, startDate, endDate);
+        if (!available) {
+            available = !bookingRepository.existsOverlappingBooking(propertyId, ACTIVE_STATUSES, startDate, endDate);
+            if (available && availabilityIndex.isEnabled()) {
+                logger.info("Availability index for property ID: {} is stale, reloading it", propertyId);
+                availabilityIndex.evict(propertyId);
             }
         }
+        if (!available) {
+            logger.warn("Property ID: {} is already booked between {} and {}", propertyId, startDate, endDate);
+            return false;
+        }
 
         logger.info("Property ID: {} is available from {} to {}", propertyId, startDate, endDate);
         return true;
     }
+
+    private boolean isOverlappingStayViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException &&
+                EXCLUSION_VIOLATION_SQL_STATE.equals(sqlException.getSQLState());
+    }
 }
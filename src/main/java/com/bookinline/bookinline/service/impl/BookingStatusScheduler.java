@@ -1,43 +1,65 @@
 package com.bookinline.bookinline.service.impl;
 
-import com.bookinline.bookinline.entity.Booking;
 import com.bookinline.bookinline.entity.enums.BookingStatus;
 import com.bookinline.bookinline.repository.BookingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * Moves CONFIRMED bookings whose check-out date has passed to CHECKED_OUT. Bookings are updated in
+ * keyset-ordered chunks of {@code booking.checkout.batch-size}, each its own bulk UPDATE and transaction,
+ * so the job never loads entities and never holds row locks on the whole backlog at once.
+ * The availability index needs no update: it only tracks stays that end after today.
+ */
 @Service
 public class BookingStatusScheduler {
     private static final Logger logger = LoggerFactory.getLogger(BookingStatusScheduler.class);
+    private static final String JOB_NAME = "bookingCheckout";
 
     private final BookingRepository bookingRepository;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
 
-    public BookingStatusScheduler(BookingRepository bookingRepository) {
+    public BookingStatusScheduler(BookingRepository bookingRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${booking.checkout.batch-size:1000}") int batchSize) {
         this.bookingRepository = bookingRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
+    @SchedulerLock(name = JOB_NAME, lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
     public void updateBookingStatusToCheckedOut() {
         logger.info("Starting scheduled task: updateBookingStatusToCheckedOut");
+        Timer.Sample sample = Timer.start(meterRegistry);
 
         LocalDate today = LocalDate.now();
-        List<Booking> bookingsToCheckOut = bookingRepository.findByStatusAndCheckOutDateBefore(
-                BookingStatus.CONFIRMED, today);
+        long afterId = Long.MIN_VALUE;
+        int updated = 0;
+        List<Long> bookingIds;
+        do {
+            bookingIds = bookingRepository.findIdsByStatusAndCheckOutDateBefore(
+                    BookingStatus.CONFIRMED, today, afterId, Limit.of(batchSize));
+            if (!bookingIds.isEmpty()) {
+                updated += bookingRepository.updateStatusByIds(
+                        bookingIds, BookingStatus.CONFIRMED, BookingStatus.CHECKED_OUT);
+                afterId = bookingIds.get(bookingIds.size() - 1);
+            }
+        } while (bookingIds.size() == batchSize);
 
-        logger.info("Found {} bookings to update to CHECKED_OUT status", bookingsToCheckOut.size());
-        for (Booking booking : bookingsToCheckOut) {
-            logger.info("Updating booking with ID: {} to CHECKED_OUT status", booking.getId());
-            booking.setStatus(BookingStatus.CHECKED_OUT);
-        }
-
-        bookingRepository.saveAll(bookingsToCheckOut);
-
-        logger.info("Completed scheduled task: updateBookingStatusToCheckedOut, updated {} bookings",
-                bookingsToCheckOut.size());
+        sample.stop(meterRegistry.timer("scheduler.job.duration", "job", JOB_NAME));
+        meterRegistry.counter("scheduler.job.rows", "job", JOB_NAME).increment(updated);
+        logger.info("Completed scheduled task: updateBookingStatusToCheckedOut, updated {} bookings", updated);
     }
-}
\ No newline at end of file
+}
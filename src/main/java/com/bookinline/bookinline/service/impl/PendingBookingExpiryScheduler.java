@@ -0,0 +1,90 @@
+package com.bookinline.bookinline.service.impl;
+
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cancels PENDING bookings the host did not answer within {@code booking.pending.response-deadline},
+ * and PENDING bookings whose check-in date has already passed, so ignored requests stop blocking dates.
+ * Both sweeps are range scans over partial indexes on PENDING rows, updated in keyset-ordered chunks
+ * like {@link BookingStatusScheduler}.
+ */
+@Service
+public class PendingBookingExpiryScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(PendingBookingExpiryScheduler.class);
+    private static final String JOB_NAME = "pendingBookingExpiry";
+
+    private final BookingRepository bookingRepository;
+    private final PropertyRepository propertyRepository;
+    private final BookingAvailabilityIndex availabilityIndex;
+    private final MeterRegistry meterRegistry;
+    private final Duration responseDeadline;
+    private final int batchSize;
+
+    public PendingBookingExpiryScheduler(BookingRepository bookingRepository,
+                                         PropertyRepository propertyRepository,
+                                         BookingAvailabilityIndex availabilityIndex,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${booking.pending.response-deadline:PT48H}") Duration responseDeadline,
+                                         @Value("${booking.pending.batch-size:1000}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.propertyRepository = propertyRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.meterRegistry = meterRegistry;
+        this.responseDeadline = responseDeadline;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${booking.pending.sweep-cron:0 */15 * * * ?}")
+    @SchedulerLock(name = JOB_NAME, lockAtMostFor = "PT10M", lockAtLeastFor = "PT1M")
+    public void cancelExpiredPendingBookings() {
+        logger.info("Starting scheduled task: cancelExpiredPendingBookings");
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        LocalDateTime deadline = LocalDateTime.now().minus(responseDeadline);
+        LocalDate today = LocalDate.now();
+        int cancelled = cancelInChunks(afterId -> bookingRepository.findIdsByStatusAndCreatedAtBefore(
+                BookingStatus.PENDING, deadline, afterId, Limit.of(batchSize)));
+        cancelled += cancelInChunks(afterId -> bookingRepository.findIdsByStatusAndCheckInDateBefore(
+                BookingStatus.PENDING, today, afterId, Limit.of(batchSize)));
+
+        sample.stop(meterRegistry.timer("scheduler.job.duration", "job", JOB_NAME));
+        meterRegistry.counter("scheduler.job.rows", "job", JOB_NAME).increment(cancelled);
+        logger.info("Completed scheduled task: cancelExpiredPendingBookings, cancelled {} bookings", cancelled);
+    }
+
+    private int cancelInChunks(Function<Long, List<Long>> nextChunk) {
+        long afterId = Long.MIN_VALUE;
+        int cancelled = 0;
+        List<Long> bookingIds;
+        do {
+            bookingIds = nextChunk.apply(afterId);
+            if (!bookingIds.isEmpty()) {
+                List<Long> propertyIds = bookingRepository.findPropertyIdsByIds(bookingIds);
+                cancelled += bookingRepository.updateStatusByIds(
+                        bookingIds, BookingStatus.PENDING, BookingStatus.CANCELLED);
+                propertyRepository.incrementBookingVersions(propertyIds);
+                // A host may have confirmed some of these in between, so reload rather than release the dates
+                propertyIds.forEach(availabilityIndex::evict);
+                afterId = bookingIds.get(bookingIds.size() - 1);
+            }
+        } while (bookingIds.size() == batchSize);
+        return cancelled;
+    }
+}
@@ -1,16 +1,26 @@
 package com.bookinline.bookinline.service.impl;
 
+import com.bookinline.bookinline.cache.CacheNames;
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import com.bookinline.bookinline.dto.ImageUploadConfirmationDto;
+import com.bookinline.bookinline.dto.ImageUploadRequestDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotsRequestDto;
 import com.bookinline.bookinline.dto.PropertyFilterDto;
 import com.bookinline.bookinline.dto.PropertyRequestDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
 import com.bookinline.bookinline.dto.PropertyResponsePage;
 import com.bookinline.bookinline.entity.Image;
 import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
 import com.bookinline.bookinline.entity.enums.PropertyType;
 import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.exception.InvalidPropertyDataException;
 import com.bookinline.bookinline.exception.PropertyNotFoundException;
 import com.bookinline.bookinline.exception.UnauthorizedActionException;
 import com.bookinline.bookinline.exception.UserNotFoundException;
+import com.bookinline.bookinline.image.ImagesUploadedEvent;
+import com.bookinline.bookinline.mapper.CursorMapper;
 import com.bookinline.bookinline.mapper.PropertyMapper;
 import com.bookinline.bookinline.repository.UserRepository;
 import com.bookinline.bookinline.service.S3Service;
@@ -18,18 +28,29 @@ import com.bookinline.bookinline.specification.PropertySpecification;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.service.PropertyService;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class PropertyServiceImpl implements PropertyService {
@@ -37,15 +58,24 @@ public class PropertyServiceImpl implements PropertyService {
 
     private final PropertyRepository propertyRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service
-            ;
+    private final S3Service s3Service;
+    private final PropertyCacheEvictor propertyCacheEvictor;
+    private final ApplicationEventPublisher eventPublisher;
+    @Value("${images.upload.max-size:10MB}")
+    private DataSize maxImageSize;
+    @Value("${images.upload.url-expiration-minutes:15}")
+    private int uploadUrlExpirationInMinutes;
 
     public PropertyServiceImpl(PropertyRepository propertyRepository,
                                UserRepository userRepository,
-                               S3Service s3Service) {
+                               S3Service s3Service,
+                               PropertyCacheEvictor propertyCacheEvictor,
+                               ApplicationEventPublisher eventPublisher) {
         this.propertyRepository = propertyRepository;
         this.userRepository = userRepository;
         this.s3Service = s3Service;
+        this.propertyCacheEvictor = propertyCacheEvictor;
+        this.eventPublisher = eventPublisher;
     }
 
     @Timed(
@@ -60,38 +90,49 @@ public class PropertyServiceImpl implements PropertyService {
                     logger.error("User not found with ID: {}", userId);
                     return new UserNotFoundException("User not found");
                 });
+        // The user lookup above has already returned its connection (open-in-view is off), so none is held during
+        // S3 I/O, and the property and its images go out as a single insert batch afterwards.
+        List<String> imageUrls = List.of();
+        if (images != null && !images.isEmpty()) {
+            logger.info("Uploading images for new property of user with ID: {}", userId);
+            imageUrls = uploadImages(images);
+        }
+
         Property property = PropertyMapper.mapToPropertyEntity(propertyRequestDto);
         property.setHost(user);
         property.setAvailable(true);
         property.setAverageRating(0.0);
-
-        logger.info("Creating property with title: {}", property.getTitle());
-        property = propertyRepository.save(property);
+        property.setReviewCount(0);
+        property.setRatingSum(0L);
 
         List<Image> imageList = new ArrayList<>();
-        if (images != null && !images.isEmpty()) {
-            logger.info("Uploading images for property with ID: {}", property.getId());
-            for (MultipartFile file : images) {
-                String imageUrl;
-                try {
-                    imageUrl = s3Service.uploadFile(file);
-                } catch (IOException e) {
-                    logger.error("Error uploading image: {}", e.getMessage());
-                    throw new RuntimeException("Failed to upload image", e);
-                }
-                Image image = new Image();
-                image.setImageUrl(imageUrl);
-                image.setProperty(property);
-                imageList.add(image);
-            }
+        for (String imageUrl : imageUrls) {
+            Image image = new Image();
+            image.setImageUrl(imageUrl);
+            image.setProperty(property);
+            imageList.add(image);
         }
         property.setImages(imageList);
 
-        Property savedProperty = propertyRepository.save(property);
+        logger.info("Creating property with title: {}", property.getTitle());
+        Property savedProperty;
+        try {
+            savedProperty = propertyRepository.save(property);
+        } catch (RuntimeException e) {
+            logger.error("Failed to save property, deleting {} uploaded images", imageUrls.size());
+            imageUrls.forEach(url -> s3Service.deleteFile(s3Service.keyFromUrl(url)));
+            throw e;
+        }
+        if (!imageList.isEmpty()) {
+            publishImagesUploaded(savedProperty);
+        }
+        propertyCacheEvictor.evictListings();
         logger.info("Property created successfully with ID: {}", savedProperty.getId());
         return PropertyMapper.mapToPropertyResponseDto(savedProperty);
     }
 
+    // Not @Transactional: images are uploaded between loading and saving the property, and each repository call
+    // returns its connection, so the property is loaded with its images and saved detached
     @Timed(
             value = "property.update",
             description = "Time taken to update a property")
@@ -104,12 +145,12 @@ public class PropertyServiceImpl implements PropertyService {
                     logger.error("User not found with ID: {}", userId);
                     return new UserNotFoundException("User not found");
                 });
-        Property property = propertyRepository.findById(propertyId)
+        Property property = propertyRepository.findWithImagesById(propertyId)
                 .orElseThrow(() -> {
                     logger.error("Property not found with ID: {}", propertyId);
                     return new PropertyNotFoundException("Property not found");
                 });
-        if (!property.getHost().equals(user)) {
+        if (!property.getHost().getId().equals(user.getId())) {
             logger.warn("User with ID: {} does not have permission to update property with ID: {}", userId, propertyId);
             throw new UnauthorizedActionException("User does not have permission to update this property");
         }
@@ -124,35 +165,127 @@ public class PropertyServiceImpl implements PropertyService {
         property.setMaxGuests(propertyRequestDto.getMaxGuests());
 
 
+        List<String> imageUrls = List.of();
         if (images != null && !images.isEmpty()) {
             logger.info("Uploading images for property with ID: {}", propertyId);
+            imageUrls = uploadImages(images);
             List<Image> imageList = property.getImages();
             imageList.clear();
-            for (MultipartFile file : images) {
-                String imageUrl;
-                try {
-                    imageUrl = s3Service.uploadFile(file);
-                } catch (IOException e) {
-                    logger.error("Error uploading image: {}", e.getMessage());
-                    throw new RuntimeException("Failed to upload image", e);
-                }
+            for (String imageUrl : imageUrls) {
                 Image image = new Image();
                 image.setImageUrl(imageUrl);
                 image.setProperty(property);
                 imageList.add(image);
-                property.setImages(imageList);
             }
+            property.setImages(imageList);
         }
 
-        Property updatedProperty = propertyRepository.save(property);
+        Property updatedProperty;
+        try {
+            updatedProperty = propertyRepository.save(property);
+        } catch (RuntimeException e) {
+            logger.error("Failed to update property with ID: {}, deleting {} uploaded images",
+                    propertyId, imageUrls.size());
+            imageUrls.forEach(url -> s3Service.deleteFile(s3Service.keyFromUrl(url)));
+            throw e;
+        }
+        if (!imageUrls.isEmpty()) {
+            publishImagesUploaded(updatedProperty);
+        }
+        propertyCacheEvictor.evictProperty(propertyId);
 
         logger.info("Property with ID: {} updated successfully", propertyId);
         return PropertyMapper.mapToPropertyResponseDto(updatedProperty);
     }
 
+    @Timed(
+            value = "property.createImageUploadSlots",
+            description = "Time taken to issue presigned image upload slots")
+    @Transactional(readOnly = true)
+    @Override
+    public List<ImageUploadSlotDto> createImageUploadSlots(Long propertyId, Long userId,
+                                                           ImageUploadSlotsRequestDto imageUploadSlotsRequestDto) {
+        logger.info("Issuing {} image upload slots for property with ID: {}",
+                imageUploadSlotsRequestDto.getImages().size(), propertyId);
+        findPropertyOwnedBy(propertyId, userId);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(uploadUrlExpirationInMinutes);
+        List<ImageUploadSlotDto> slots = new ArrayList<>();
+        for (ImageUploadRequestDto image : imageUploadSlotsRequestDto.getImages()) {
+            if (image.getContentLength() > maxImageSize.toBytes()) {
+                logger.warn("Rejected image upload slot for property with ID: {}, size {} exceeds limit",
+                        propertyId, image.getContentLength());
+                throw new InvalidPropertyDataException("Image exceeds the maximum size of " + maxImageSize);
+            }
+            String key = uploadKeyPrefix(propertyId) + UUID.randomUUID() + "_" + sanitizeFileName(image.getFileName());
+            String uploadUrl = s3Service.generatePresignedUploadUrl(key, image.getContentType(),
+                    image.getContentLength(), uploadUrlExpirationInMinutes);
+            slots.add(ImageUploadSlotDto.builder()
+                    .key(key)
+                    .uploadUrl(uploadUrl)
+                    .contentType(image.getContentType())
+                    .contentLength(image.getContentLength())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        return slots;
+    }
+
+    // Not @Transactional either, every key is checked with a HEAD request before the save
+    @Timed(
+            value = "property.confirmImageUploads",
+            description = "Time taken to confirm direct image uploads")
+    @Override
+    public PropertyResponseDto confirmImageUploads(Long propertyId, Long userId,
+                                                   ImageUploadConfirmationDto imageUploadConfirmationDto) {
+        logger.info("Confirming {} image uploads for property with ID: {}",
+                imageUploadConfirmationDto.getKeys().size(), propertyId);
+        Property property = findPropertyOwnedBy(propertyId, userId);
+
+        Set<String> attachedUrls = property.getImages().stream()
+                .map(Image::getImageUrl)
+                .collect(Collectors.toSet());
+        int attached = 0;
+        for (String key : new LinkedHashSet<>(imageUploadConfirmationDto.getKeys())) {
+            // Keys are only ever issued under this prefix, so anything else was not uploaded for this property
+            if (!key.startsWith(uploadKeyPrefix(propertyId))) {
+                logger.warn("Rejected image key {} for property with ID: {}", key, propertyId);
+                throw new InvalidPropertyDataException("Invalid image key: " + key);
+            }
+            long size = s3Service.getObjectSize(key)
+                    .orElseThrow(() -> {
+                        logger.warn("Image {} was not uploaded for property with ID: {}", key, propertyId);
+                        return new InvalidPropertyDataException("Image has not been uploaded: " + key);
+                    });
+            if (size == 0 || size > maxImageSize.toBytes()) {
+                logger.warn("Rejected image {} for property with ID: {}, size {}", key, propertyId, size);
+                s3Service.deleteFile(key);
+                throw new InvalidPropertyDataException("Invalid image size: " + key);
+            }
+
+            String imageUrl = s3Service.getFileUrl(key);
+            if (attachedUrls.add(imageUrl)) {
+                Image image = new Image();
+                image.setImageUrl(imageUrl);
+                image.setProperty(property);
+                property.getImages().add(image);
+                attached++;
+            }
+        }
+
+        Property updatedProperty = propertyRepository.save(property);
+        if (attached > 0) {
+            publishImagesUploaded(updatedProperty);
+        }
+        propertyCacheEvictor.evictProperty(propertyId);
+        logger.info("Attached {} images to property with ID: {}", attached, propertyId);
+        return PropertyMapper.mapToPropertyResponseDto(updatedProperty);
+    }
+
     @Timed(
             value = "property.delete",
             description = "Time taken to delete a property")
+    @Transactional
     @Override
     public void deleteProperty(Long propertyId, Long userId) {
         logger.info("Attempting to delete property with ID: {} for user with ID: {}", propertyId, userId);
@@ -172,12 +305,15 @@ public class PropertyServiceImpl implements PropertyService {
             throw new UnauthorizedActionException("User does not have permission to delete this property");
         }
         propertyRepository.delete(property);
+        propertyCacheEvictor.evictProperty(propertyId);
         logger.info("Property with ID: {} deleted successfully", propertyId);
     }
 
     @Timed(
             value = "property.getById",
             description = "Time taken to get property by ID")
+    @Cacheable(value = CacheNames.PROPERTIES, key = "#id")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponseDto getPropertyById(Long id) {
         logger.info("Attempting to get property with ID: {}", id);
@@ -193,7 +329,8 @@ public class PropertyServiceImpl implements PropertyService {
     @Timed(
             value = "property.getAll",
             description = "Time taken to get all available properties")
-    @Cacheable(value = "availableProperties")
+    @Cacheable(value = CacheNames.AVAILABLE_PROPERTIES, key = "#page + ':' + #size")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponsePage getAvailableProperties(int page, int size) {
         logger.info("Fetching available properties, page: {}, size: {}", page, size);
@@ -207,6 +344,7 @@ public class PropertyServiceImpl implements PropertyService {
     @Timed(
             value = "property.getFilteredProperties",
             description = "Time taken to get customly filtered properties")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponsePage getFilteredProperties(PropertyFilterDto propertyFilterDto, int page, int size) {
         logger.info("Fetching filtered properties with filters: {}, page: {}, size: {}", propertyFilterDto, page, size);
@@ -223,6 +361,7 @@ public class PropertyServiceImpl implements PropertyService {
     @Timed(
             value = "property.getPropertiesByHostId",
             description = "Time taken to get all properties by host ID")
+    @Transactional(readOnly = true)
     @Override
     public PropertyResponsePage getPropertiesByHostId(Long hostId, int page, int size) {
         logger.info("Fetching properties for host with ID: {}, page: {}, size: {}", hostId, page, size);
@@ -238,4 +377,73 @@ public class PropertyServiceImpl implements PropertyService {
 
         return PropertyMapper.mapToPropertyResponsePage(propertyPage);
     }
+
+    @Timed(
+            value = "property.scrollAvailableProperties",
+            description = "Time taken to scroll available properties")
+    @Transactional(readOnly = true)
+    @Override
+    public PropertyResponsePage scrollAvailableProperties(String after, int size) {
+        logger.info("Scrolling available properties after cursor: {}, size: {}", after, size);
+        Window<Property> propertyWindow = propertyRepository.findByAvailableTrueOrderByIdAsc(
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return PropertyMapper.mapToPropertyResponsePage(propertyWindow, size);
+    }
+
+    @Timed(
+            value = "property.scrollPropertiesByHostId",
+            description = "Time taken to scroll properties by host ID")
+    @Transactional(readOnly = true)
+    @Override
+    public PropertyResponsePage scrollPropertiesByHostId(Long hostId, String after, int size) {
+        logger.info("Scrolling properties for host with ID: {} after cursor: {}, size: {}", hostId, after, size);
+        if (userRepository.findById(hostId).isEmpty()) {
+            logger.error("User not found with ID: {}", hostId);
+            throw new UserNotFoundException("User not found");
+        }
+        Window<Property> propertyWindow = propertyRepository.findByHostIdOrderByIdAsc(hostId,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return PropertyMapper.mapToPropertyResponsePage(propertyWindow, size);
+    }
+
+    private List<String> uploadImages(List<MultipartFile> images) {
+        try {
+            return s3Service.uploadFiles(images);
+        } catch (IOException e) {
+            logger.error("Error uploading images: {}", e.getMessage());
+            throw new RuntimeException("Failed to upload image", e);
+        }
+    }
+
+    private Property findPropertyOwnedBy(Long propertyId, Long userId) {
+        Property property = propertyRepository.findWithImagesById(propertyId)
+                .orElseThrow(() -> {
+                    logger.error("Property not found with ID: {}", propertyId);
+                    return new PropertyNotFoundException("Property not found");
+                });
+        if (!property.getHost().getId().equals(userId)) {
+            logger.warn("User with ID: {} does not have permission to manage images of property with ID: {}",
+                    userId, propertyId);
+            throw new UnauthorizedActionException("User does not have permission to update this property");
+        }
+        return property;
+    }
+
+    private static String uploadKeyPrefix(Long propertyId) {
+        return "properties/" + propertyId + "/";
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        return fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private void publishImagesUploaded(Property property) {
+        List<Long> imageIds = property.getImages().stream()
+                .filter(image -> image.getDerivativeStatus() == DerivativeStatus.PENDING)
+                .map(Image::getId)
+                .toList();
+        eventPublisher.publishEvent(new ImagesUploadedEvent(imageIds));
+    }
 }
@@ -0,0 +1,37 @@
+package com.bookinline.bookinline.service.impl;
+
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class RatingAggregateScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateScheduler.class);
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyCacheEvictor propertyCacheEvictor;
+
+    public RatingAggregateScheduler(PropertyRepository propertyRepository,
+                                    PropertyCacheEvictor propertyCacheEvictor) {
+        this.propertyRepository = propertyRepository;
+        this.propertyCacheEvictor = propertyCacheEvictor;
+    }
+
+    @Scheduled(cron = "0 30 3 * * SUN")
+    @SchedulerLock(name = "ratingAggregates", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    @Transactional
+    public void recalculateRatingAggregates() {
+        logger.info("Starting scheduled task: recalculateRatingAggregates");
+
+        int updated = propertyRepository.recalculateRatingAggregates();
+        propertyRepository.recalculateAverageRatings();
+        propertyCacheEvictor.evictAll();
+
+        logger.info("Completed scheduled task: recalculateRatingAggregates, recalculated {} properties", updated);
+    }
+}
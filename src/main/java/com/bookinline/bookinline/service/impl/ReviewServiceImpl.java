@@ -1,19 +1,24 @@
 package com.bookinline.bookinline.service.impl;
 
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
 import com.bookinline.bookinline.dto.ReviewRequestDto;
 import com.bookinline.bookinline.dto.ReviewResponseDto;
 import com.bookinline.bookinline.dto.ReviewResponsePage;
 import com.bookinline.bookinline.entity.*;
 import com.bookinline.bookinline.entity.enums.BookingStatus;
 import com.bookinline.bookinline.exception.*;
+import com.bookinline.bookinline.mapper.CursorMapper;
 import com.bookinline.bookinline.mapper.ReviewMapper;
 import com.bookinline.bookinline.repository.BookingRepository;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.ReviewRepository;
 import com.bookinline.bookinline.repository.UserRepository;
@@ -30,20 +35,24 @@ public class ReviewServiceImpl implements ReviewService {
     private final PropertyRepository propertyRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final PropertyCacheEvictor propertyCacheEvictor;
 
     public ReviewServiceImpl(ReviewRepository reviewRepository,
                               PropertyRepository propertyRepository,
                               BookingRepository bookingRepository,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              PropertyCacheEvictor propertyCacheEvictor) {
         this.reviewRepository = reviewRepository;
         this.propertyRepository = propertyRepository;
         this.bookingRepository = bookingRepository;
         this.userRepository = userRepository;
+        this.propertyCacheEvictor = propertyCacheEvictor;
     }
 
     @Timed(
             value = "review.add",
             description = "Time taken to add a review")
+    @Transactional
     @Override
     public ReviewResponseDto addReview(Long propertyId, Long userId, ReviewRequestDto reviewRequestDto) {
         logger.info("Attempting to add review for property with ID: {} by user with ID: {}", propertyId, userId);
@@ -77,8 +86,8 @@ public class ReviewServiceImpl implements ReviewService {
         ReviewResponseDto reviewResponse = ReviewMapper.mapToReviewResponseDto(reviewRepository.save(review));
         logger.info("Review added successfully for property with ID: {} by user with ID: {}", propertyId, userId);
 
-        property.setAverageRating(calculateAverageRating(propertyId));
-        propertyRepository.save(property);
+        propertyRepository.applyRatingDelta(propertyId, review.getRating(), 1);
+        propertyCacheEvictor.evictProperty(propertyId);
         logger.info("Update average rating for property with ID: {}", propertyId);
 
         return reviewResponse;
@@ -87,6 +96,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Timed(
             value = "review.getById",
             description = "Time taken to get a review by ID")
+    @Transactional(readOnly = true)
     @Override
     public ReviewResponseDto getReviewById(Long reviewId, Long userId) {
         logger.info("Fetching review with ID: {} for user with ID: {}", reviewId, userId);
@@ -111,6 +121,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Timed(
             value = "review.delete",
             description = "Time taken to delete a review")
+    @Transactional
     @Override
     public void deleteReview(Long reviewId, Long userId) {
         logger.info("Attempting to delete review with ID: {}", reviewId);
@@ -129,15 +140,16 @@ public class ReviewServiceImpl implements ReviewService {
         reviewRepository.delete(review);
         logger.info("Review with ID: {} deleted successfully", reviewId);
 
-        Property property = review.getProperty();
-        property.setAverageRating(calculateAverageRating(property.getId()));
-        propertyRepository.save(property);
-        logger.info("Update average rating for property with ID: {}", property.getId());
+        Long propertyId = review.getProperty().getId();
+        propertyRepository.applyRatingDelta(propertyId, -review.getRating(), -1);
+        propertyCacheEvictor.evictProperty(propertyId);
+        logger.info("Update average rating for property with ID: {}", propertyId);
     }
 
     @Timed(
             value = "review.getByPropertyId",
             description = "Time taken to get reviews by property ID")
+    @Transactional(readOnly = true)
     @Override
     public ReviewResponsePage getReviewsByPropertyId(Long propertyId, int page, int size) {
         logger.info("Fetching reviews for property with ID: {}, page: {}, size: {}", propertyId, page, size);
@@ -157,6 +169,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Timed(
             value = "review.getByUserId",
             description = "Time taken to get reviews by user ID")
+    @Transactional(readOnly = true)
     @Override
     public ReviewResponsePage getReviewsByUserId(Long userId, int page, int size) {
         logger.info("Fetching reviews for user with ID: {}, page: {}, size: {}", userId, page, size);
@@ -176,6 +189,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Timed(
             value = "review.hasPersonLeftReview",
             description = "Time taken to check if a person has left a review")
+    @Transactional(readOnly = true)
     @Override
     public boolean hasPersonLeftReview(Long propertyId, Long userId) {
         logger.info("Checking if user with ID: {} has left a review for property with ID: {}", userId, propertyId);
@@ -188,23 +202,37 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Timed(
-            value = "review.calculateAverageRating",
-            description = "Time taken to calculate average rating")
-    private double calculateAverageRating(Long propertyId) {
-        logger.info("Calculating average rating for property with ID: {}", propertyId);
-
-        List<Review> reviews = reviewRepository.findByPropertyId(propertyId);
-        if (reviews.isEmpty()) {
-            logger.info("No reviews found for property with ID: {}", propertyId);
-            return 0.0;
+            value = "review.scrollByPropertyId",
+            description = "Time taken to scroll reviews by property ID")
+    @Transactional(readOnly = true)
+    @Override
+    public ReviewResponsePage scrollReviewsByPropertyId(Long propertyId, String after, int size) {
+        logger.info("Scrolling reviews for property with ID: {} after cursor: {}, size: {}", propertyId, after, size);
+        if (propertyRepository.findById(propertyId).isEmpty()) {
+            logger.error("Property not found with ID: {}", propertyId);
+            throw new PropertyNotFoundException("Property not found");
+        }
+        Window<Review> reviewWindow = reviewRepository.findByPropertyIdOrderByIdAsc(propertyId,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
+
+        return ReviewMapper.mapToReviewResponsePage(reviewWindow, size);
+    }
+
+    @Timed(
+            value = "review.scrollByUserId",
+            description = "Time taken to scroll reviews by user ID")
+    @Transactional(readOnly = true)
+    @Override
+    public ReviewResponsePage scrollReviewsByUserId(Long userId, String after, int size) {
+        logger.info("Scrolling reviews for user with ID: {} after cursor: {}, size: {}", userId, after, size);
+        if (userRepository.findById(userId).isEmpty()) {
+            logger.error("User not found with ID: {}", userId);
+            throw new UserNotFoundException("User not found");
         }
-        double totalRating = reviews.stream()
-                .mapToDouble(Review::getRating)
-                .sum();
-        double averageRating = totalRating / reviews.size();
-        logger.info("Average rating for property with ID: {} is {}", propertyId, averageRating);
+        Window<Review> reviewWindow = reviewRepository.findByAuthorIdOrderByIdAsc(userId,
+                CursorMapper.mapToScrollPosition(after), Limit.of(size));
 
-        return averageRating;
+        return ReviewMapper.mapToReviewResponsePage(reviewWindow, size);
     }
 
     @Timed(
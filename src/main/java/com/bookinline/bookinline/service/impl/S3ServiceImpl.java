@@ -1,46 +1,277 @@
 package com.bookinline.bookinline.service.impl;
 
+import com.bookinline.bookinline.cache.PresignedUrlCache;
+import com.bookinline.bookinline.image.ImageVariant;
+import com.bookinline.bookinline.repository.ImageRepository;
 import com.bookinline.bookinline.service.S3Service;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
-@RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
+    private static final Logger logger = LoggerFactory.getLogger(S3ServiceImpl.class);
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final PresignedUrlCache presignedUrlCache;
+    private final ImageRepository imageRepository;
+    private final ExecutorService uploadExecutor;
+    private final Semaphore uploadPermits;
+    private final long multipartThreshold;
+    private final int partSize;
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
     @Value("${cloud.aws.s3.region}")
     private String region;
 
+    public S3ServiceImpl(S3Client s3Client,
+                         S3Presigner s3Presigner,
+                         PresignedUrlCache presignedUrlCache,
+                         ImageRepository imageRepository,
+                         @Qualifier("s3UploadExecutor") ExecutorService uploadExecutor,
+                         @Value("${cloud.aws.s3.upload-concurrency:4}") int uploadConcurrency,
+                         @Value("${cloud.aws.s3.multipart-threshold:8MB}") DataSize multipartThreshold,
+                         @Value("${cloud.aws.s3.multipart-part-size:5MB}") DataSize partSize) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.presignedUrlCache = presignedUrlCache;
+        this.imageRepository = imageRepository;
+        this.uploadExecutor = uploadExecutor;
+        this.uploadPermits = new Semaphore(uploadConcurrency);
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.toIntExact(partSize.toBytes());
+    }
+
     public String uploadFile(MultipartFile file) throws IOException {
         String key = UUID.randomUUID() + "_" + file.getOriginalFilename();
 
-        PutObjectRequest request = PutObjectRequest.builder()
+        if (file.getSize() > multipartThreshold) {
+            uploadMultipart(key, file);
+        } else {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .contentLength(file.getSize())
+                    .build();
+            try (InputStream inputStream = file.getInputStream()) {
+                s3Client.putObject(request, RequestBody.fromInputStream(inputStream, file.getSize()));
+            }
+        }
+
+        return getFileUrl(key);
+    }
+
+    /**
+     * Uploads all files concurrently, at most {@code cloud.aws.s3.upload-concurrency} at a time, and returns
+     * their URLs in the order of {@code files}. If any upload fails, the objects already stored are deleted.
+     */
+    public List<String> uploadFiles(List<MultipartFile> files) throws IOException {
+        Queue<String> uploadedUrls = new ConcurrentLinkedQueue<>();
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<String>> uploads = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            uploads.add(uploadExecutor.submit(() -> {
+                uploadPermits.acquire();
+                try {
+                    if (aborted.get()) {
+                        throw new CancellationException("Upload aborted after an earlier failure");
+                    }
+                    String url = uploadFile(file);
+                    uploadedUrls.add(url);
+                    return url;
+                } finally {
+                    uploadPermits.release();
+                }
+            }));
+        }
+
+        List<String> urls = new ArrayList<>(files.size());
+        try {
+            for (Future<String> upload : uploads) {
+                urls.add(upload.get());
+            }
+            return urls;
+        } catch (InterruptedException | ExecutionException e) {
+            aborted.set(true);
+            awaitCompletion(uploads);
+            logger.error("Image upload failed, deleting {} already uploaded images", uploadedUrls.size());
+            uploadedUrls.forEach(url -> deleteFile(keyFromUrl(url)));
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw cause instanceof IOException ioException ? ioException : new IOException("Failed to upload images", cause);
+        }
+    }
+
+    public String uploadFile(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(content));
+        return getFileUrl(key);
+    }
+
+    public byte[] downloadFile(String key) {
+        return s3Client.getObjectAsBytes(GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
-                .contentType(file.getContentType())
-                .build();
-
-        s3Client.putObject(request, RequestBody.fromBytes(file.getBytes()));
+                .build()).asByteArray();
+    }
 
+    public String getFileUrl(String key) {
         return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
     }
 
+    public String keyFromUrl(String url) {
+        String prefix = getFileUrl("");
+        return url.startsWith(prefix) ? url.substring(prefix.length()) : url.substring(url.lastIndexOf('/') + 1);
+    }
+
+    public Optional<Long> getObjectSize(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build()).contentLength());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void deleteFile(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete object {}: {}", key, e.getMessage());
+        }
+    }
+
     public String generatePresignedUrl(String key, int expirationInMinutes) {
+        return presignedUrlCache.get(key, expirationInMinutes, signatureDuration -> presignGet(key, signatureDuration));
+    }
+
+    // Only keys of stored images (or their renditions) are signed; anything else in the bucket is silently skipped
+    public Map<String, String> generatePresignedUrls(List<String> keys, int expirationInMinutes) {
+        Map<String, String> originalUrls = new LinkedHashMap<>();
+        for (String key : keys) {
+            originalUrls.putIfAbsent(key, getFileUrl(ImageVariant.originalKeyOf(key)));
+        }
+        Set<String> knownUrls = new HashSet<>(imageRepository.findExistingImageUrls(new HashSet<>(originalUrls.values())));
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        originalUrls.forEach((key, originalUrl) -> {
+            if (knownUrls.contains(originalUrl)) {
+                urls.put(key, generatePresignedUrl(key, expirationInMinutes));
+            }
+        });
+        return urls;
+    }
+
+    public String generatePresignedUploadUrl(String key, String contentType, long contentLength,
+                                             int expirationInMinutes) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .putObjectRequest(putObjectRequest)
+                .signatureDuration(Duration.ofMinutes(expirationInMinutes))
+                .build();
+
+        return s3Presigner.presignPutObject(presignRequest).url().toString();
+    }
+
+    // Streams the file in partSize chunks so that at most one part per upload is held in memory.
+    private void uploadMultipart(String key, MultipartFile file) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(file.getContentType())
+                .build()).uploadId();
+        try (InputStream inputStream = file.getInputStream()) {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromBytes(read == partSize ? buffer : Arrays.copyOf(buffer, read))).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    private String presignGet(String key, Duration signatureDuration) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
@@ -48,10 +279,20 @@ public class S3ServiceImpl implements S3Service {
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
                 .getObjectRequest(getObjectRequest)
-                .signatureDuration(java.time.Duration.ofMinutes(expirationInMinutes))
+                .signatureDuration(signatureDuration)
                 .build();
 
         URL presignedUrl = s3Presigner.presignGetObject(presignRequest).url();
         return presignedUrl.toString();
     }
+
+    private void awaitCompletion(List<Future<String>> uploads) {
+        for (Future<String> upload : uploads) {
+            try {
+                upload.get();
+            } catch (Exception ignored) {
+                // failures are handled by the caller
+            }
+        }
+    }
 }
@@ -10,12 +10,14 @@ import com.bookinline.bookinline.exception.UserNotFoundException;
 import com.bookinline.bookinline.mapper.UserMapper;
 import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.security.PrincipalCache;
 import com.bookinline.bookinline.service.UserService;
 import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -26,14 +28,18 @@ public class UserServiceImpl implements UserService {
 
     private UserRepository userRepository;
     private BookingRepository bookingRepository;
-    private UserServiceImpl(UserRepository userRepository, BookingRepository bookingRepository) {
+    private PrincipalCache principalCache;
+    public UserServiceImpl(UserRepository userRepository, BookingRepository bookingRepository,
+                           PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.bookingRepository = bookingRepository;
+        this.principalCache = principalCache;
     }
 
     @Timed(
             value = "user.setPhoneNumber",
             description = "Time taken to set phone number")
+    @Transactional
     @Override
     public UserResponseDto setPhoneNumber(UserRequestDto userRequestDto, Long userId) {
         logger.info("Setting phone number for user with ID: {}", userId);
@@ -50,6 +56,7 @@ public class UserServiceImpl implements UserService {
     @Timed(
             value = "user.setEmail",
             description = "Time taken to set email")
+    @Transactional
     @Override
     public UserResponseDto setEmail(UserRequestDto userRequestDto, Long userId) {
         logger.info("Setting email for user with ID: {}", userId);
@@ -62,14 +69,17 @@ public class UserServiceImpl implements UserService {
             logger.error("Email {} already exists", userRequestDto.getEmail());
             throw new EmailBeingUsedException("Email already exists");
         }
+        String previousEmail = user.getEmail();
         user.setEmail(userRequestDto.getEmail());
         userRepository.save(user);
+        principalCache.evict(previousEmail);
         return UserMapper.mapToUserResponseDto(user);
     }
 
     @Timed(
             value = "user.setPassword",
             description = "Time taken to set password")
+    @Transactional
     @Override
     public UserResponseDto setPassword(UserRequestDto userRequestDto, Long userId) {
         logger.info("Setting password for user with ID: {}", userId);
@@ -80,12 +90,14 @@ public class UserServiceImpl implements UserService {
                 });
         user.setPassword(encoder.encode(userRequestDto.getPassword()));
         userRepository.save(user);
+        principalCache.evict(user.getEmail());
         return UserMapper.mapToUserResponseDto(user);
     }
 
     @Timed(
             value = "user.setFullName",
             description = "Time taken to set full name")
+    @Transactional(readOnly = true)
     @Override
     public UserResponseDto getUserById(Long userId) {
         logger.info("Fetching user with ID: {}", userId);
@@ -100,6 +112,7 @@ public class UserServiceImpl implements UserService {
     @Timed(
             value = "user.getUserById",
             description = "Time taken to get user by ID")
+    @Transactional(readOnly = true)
     @Override
     public UserResponseDto getUserById(Long userId, Long authenticatedUserId) {
         logger.info("Fetching user with ID: {} for authenticated user ID: {}", userId, authenticatedUserId);
@@ -125,6 +138,7 @@ public class UserServiceImpl implements UserService {
     @Timed(
             value = "user.deleteUser",
             description = "Time taken to delete user")
+    @Transactional
     @Override
     public void deleteUser(Long userId, String password) {
         logger.info("Deleting user with ID: {}", userId);
@@ -135,6 +149,7 @@ public class UserServiceImpl implements UserService {
                 });
         if (encoder.matches(password, user.getPassword())) {
             userRepository.delete(user);
+            principalCache.evict(user.getEmail());
         } else {
             logger.error("Password mismatch for user ID: {}", userId);
             throw new UnauthorizedActionException("Incorrect password");
@@ -68,18 +68,41 @@ public class PropertySpecification implements Specification<Property> {
             predicates.add(cb.lessThanOrEqualTo(root.get("averageRating"), filter.getMaxRating()));
         }
 
+        List<Order> orders = new ArrayList<>();
         if (filter.getSortBy() != null) {
             Path<?> sortField = root.get(filter.getSortBy());
             if ("DESC".equalsIgnoreCase(filter.getSortOrder())) {
-                query.orderBy(cb.desc(sortField));
+                orders.add(cb.desc(sortField));
             } else {
-                query.orderBy(cb.asc(sortField));
+                orders.add(cb.asc(sortField));
             }
         }
+        if (!Long.class.equals(query.getResultType())) {
+            if (filter.getTitle() != null) {
+                orders.add(cb.asc(relevance(cb, cb.lower(root.get("title")), filter.getTitle().toLowerCase())));
+            }
+            if (filter.getAddress() != null) {
+                orders.add(cb.asc(relevance(cb, cb.lower(root.get("address")), filter.getAddress().toLowerCase())));
+            }
+        }
+        if (!orders.isEmpty()) {
+            // Sort keys and relevance buckets tie often, and offset paging needs a total order to not repeat or skip rows
+            orders.add(cb.asc(root.get("id")));
+            query.orderBy(orders);
+        }
 
         return cb.and(predicates.toArray(new Predicate[0]));
     }
 
+    // Lower is better: exact match, then prefix, then start of a later word, then anywhere else.
+    private static Expression<Integer> relevance(CriteriaBuilder cb, Expression<String> field, String term) {
+        return cb.<Integer>selectCase()
+                .when(cb.equal(field, term), 0)
+                .when(cb.like(field, term + "%"), 1)
+                .when(cb.like(field, "% " + term + "%"), 2)
+                .otherwise(3);
+    }
+
     public static Specification<Property> withAvailability() {
         return (root, query, criteriaBuilder) ->
             criteriaBuilder.isTrue(root.get("available"));
@@ -0,0 +1,11 @@
+-- Existing PENDING requests get the migration time, so they expire one response deadline after deploy.
+ALTER TABLE booking
+    ADD COLUMN created_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- Range scans for PendingBookingExpiryScheduler; rows leave both indexes once they stop being PENDING.
+CREATE INDEX booking_pending_created_at_idx
+    ON booking (created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX booking_pending_check_in_idx
+    ON booking (check_in_date)
+    WHERE status = 'PENDING';
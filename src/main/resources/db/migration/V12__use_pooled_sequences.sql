@@ -0,0 +1,21 @@
+-- Every entity allocates ids from a sequence in blocks of 50 (pooled-lo), so the identity defaults only
+-- hide that mismatch and, on users, prevented insert batching. Raw inserts must supply ids explicitly.
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE property ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE image ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE booking ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE review ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+-- With pooled-lo the next value is the first id of the next block, so start past both the seeded rows
+-- and any block already handed out under the previous pooled optimizer.
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM users), false);
+SELECT setval('property_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM property),
+                                       (SELECT last_value FROM property_seq)) + 1, false);
+SELECT setval('image_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM image),
+                                    (SELECT last_value FROM image_seq)) + 1, false);
+SELECT setval('booking_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM booking),
+                                      (SELECT last_value FROM booking_seq)) + 1, false);
+SELECT setval('review_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM review),
+                                     (SELECT last_value FROM review_seq)) + 1, false);
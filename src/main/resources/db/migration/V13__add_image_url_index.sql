@@ -0,0 +1,2 @@
+-- Presigned URL batches are only signed for keys that resolve to a stored image.
+CREATE INDEX image_url_idx ON image (image_url);
@@ -0,0 +1,4 @@
+-- Bumped in the same transaction as every booking, cancellation, confirmation and expiry of the property,
+-- so all instances derive the same availability calendar ETag without rebuilding the calendar.
+ALTER TABLE property
+    ADD COLUMN booking_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,29 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE booking
+    ADD COLUMN stay DATERANGE GENERATED ALWAYS AS (daterange(check_in_date, check_out_date, '[)')) STORED;
+
+-- Stays written before this constraint existed may already overlap. Which reservation survives is a business
+-- decision, so stop the migration and list the conflicts instead of resolving them here.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(b.id || ' & ' || o.id, ', ' ORDER BY b.id, o.id)
+    INTO conflicts
+    FROM booking b
+    JOIN booking o ON o.property_id = b.property_id
+                  AND o.id > b.id
+                  AND o.status IN ('PENDING', 'CONFIRMED')
+                  AND o.stay && b.stay
+    WHERE b.status IN ('PENDING', 'CONFIRMED');
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'Overlapping PENDING/CONFIRMED bookings must be reconciled before adding '
+                        'booking_no_overlapping_stays: %', conflicts;
+    END IF;
+END $$;
+
+ALTER TABLE booking
+    ADD CONSTRAINT booking_no_overlapping_stays
+        EXCLUDE USING gist (property_id WITH =, stay WITH &&)
+        WHERE (status IN ('PENDING', 'CONFIRMED'));
@@ -0,0 +1,12 @@
+ALTER TABLE property
+    ADD COLUMN review_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
+
+UPDATE property p
+SET review_count = r.review_count,
+    rating_sum = r.rating_sum,
+    average_rating = r.rating_sum::FLOAT8 / r.review_count
+FROM (SELECT property_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+      FROM review
+      GROUP BY property_id) r
+WHERE p.id = r.property_id;
@@ -0,0 +1,5 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Lets the lower(title) / lower(address) LIKE '%term%' filters use an index instead of scanning property.
+CREATE INDEX property_title_trgm_idx ON property USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX property_address_trgm_idx ON property USING gin (lower(address) gin_trgm_ops);
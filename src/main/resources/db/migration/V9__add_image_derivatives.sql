@@ -0,0 +1,11 @@
+-- Existing images start as PENDING so the derivative worker backfills them.
+ALTER TABLE image
+    ADD COLUMN thumbnail_url VARCHAR(255),
+    ADD COLUMN medium_url VARCHAR(255),
+    ADD COLUMN derivative_status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    ADD COLUMN derivative_attempts INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN derivative_claimed_at TIMESTAMP;
+
+CREATE INDEX image_derivative_queue_idx
+    ON image (id)
+    WHERE derivative_status IN ('PENDING', 'PROCESSING');
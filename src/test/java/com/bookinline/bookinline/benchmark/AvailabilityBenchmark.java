@@ -0,0 +1,99 @@
+package com.bookinline.bookinline.benchmark;
+
+import com.bookinline.bookinline.dto.PropertyBookingDatesDto;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.service.impl.BookingAvailabilityIndex;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Availability check for a property with N active stays, as done by
+ * {@code BookingServiceImpl.isPropertyAvailable}: the {@link BookingAvailabilityIndex} bitset lookup
+ * against a linear overlap scan with the same predicate as {@code existsOverlappingBooking}.
+ * Stays are two nights long with a one-night gap, so roughly half of the probes collide.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Djmh.include=AvailabilityBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+    private static final Long PROPERTY_ID = 1L;
+    private static final int PROBES = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int bookings;
+
+    private BookingAvailabilityIndex availabilityIndex;
+    private List<PropertyBookingDatesDto> stays;
+    private LocalDate[] probeCheckIns;
+    private int probe;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocalDate start = LocalDate.now().plusDays(1);
+        stays = new ArrayList<>(bookings);
+        for (int i = 0; i < bookings; i++) {
+            LocalDate checkIn = start.plusDays(i * 3L);
+            stays.add(new PropertyBookingDatesDto(PROPERTY_ID, checkIn, checkIn.plusDays(2)));
+        }
+
+        BookingRepository bookingRepository = Mockito.mock(BookingRepository.class);
+        Mockito.when(bookingRepository.findBookingDatesByPropertyId(eq(PROPERTY_ID), anyList(), any()))
+                .thenReturn(stays);
+        availabilityIndex = new BookingAvailabilityIndex(bookingRepository, true, Duration.ofDays(1));
+
+        SplittableRandom random = new SplittableRandom(42);
+        probeCheckIns = new LocalDate[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeCheckIns[i] = start.plusDays(random.nextInt(bookings * 3));
+        }
+    }
+
+    @Benchmark
+    public boolean availabilityIndex() {
+        LocalDate checkIn = nextProbe();
+        return availabilityIndex.isAvailable(PROPERTY_ID, checkIn, checkIn.plusDays(3));
+    }
+
+    @Benchmark
+    public boolean linearOverlapScan() {
+        LocalDate checkIn = nextProbe();
+        LocalDate checkOut = checkIn.plusDays(3);
+        for (PropertyBookingDatesDto stay : stays) {
+            if (stay.getCheckInDate().isBefore(checkOut) && stay.getCheckOutDate().isAfter(checkIn)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LocalDate nextProbe() {
+        return probeCheckIns[probe++ & (PROBES - 1)];
+    }
+}
@@ -0,0 +1,78 @@
+package com.bookinline.bookinline.benchmark;
+
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.security.JwtProperties;
+import com.bookinline.bookinline.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request token check of the filter before and after the parser and key were built once:
+ * {@code legacy*} re-creates the parser and HMAC key and parses the token twice, as JwtService used to.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Djmh.include=JwtServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String SECRET = "aFWFNBw2wNmVqtkMmQTlRRSAT61X9Wmp";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService(new JwtProperties("primary", Map.of("primary", SECRET)));
+        user = new User();
+        user.setEmail("johndoe88@gmail.com");
+        user.setPassword("password123");
+        user.setRole(Role.GUEST);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean parseAndValidate() {
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    @Benchmark
+    public boolean legacyParseAndValidate() {
+        String username = legacyParse(token).getSubject();
+        return username.equals(user.getUsername()) && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(jwt)
+                .getBody();
+    }
+}
@@ -0,0 +1,109 @@
+package com.bookinline.bookinline.benchmark;
+
+import com.bookinline.bookinline.dto.PropertyResponsePage;
+import com.bookinline.bookinline.entity.Image;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.mapper.PropertyMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a page of listings into the response body: the DTO mapping alone for offset pages and
+ * keyset windows, and mapping plus JSON serialization as the controller returns it. Half of the images
+ * have derivatives, so both branches of {@link PropertyMapper#mapToImageUrl} are exercised.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Djmh.include=PropertyMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyMapperBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+    @Param({"5"})
+    private int imagesPerProperty;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Page<Property> page;
+    private Window<Property> window;
+
+    @Setup
+    public void setup() {
+        List<Property> properties = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            properties.add(property(id));
+        }
+        page = new PageImpl<>(properties, PageRequest.of(0, pageSize), pageSize * 50L);
+        window = Window.from(properties,
+                index -> ScrollPosition.forward(Map.of("id", properties.get(index).getId())), true);
+    }
+
+    @Benchmark
+    public PropertyResponsePage mapPage() {
+        return PropertyMapper.mapToPropertyResponsePage(page);
+    }
+
+    @Benchmark
+    public PropertyResponsePage mapWindow() {
+        return PropertyMapper.mapToPropertyResponsePage(window, pageSize);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PropertyMapper.mapToPropertyResponsePage(page));
+    }
+
+    private Property property(long id) {
+        Property property = new Property();
+        property.setId(id);
+        property.setTitle("Apartment " + id);
+        property.setDescription("Spacious and sunny apartment in the heart of the old town.");
+        property.setCity("Warsaw");
+        property.setPropertyType(PropertyType.APARTMENT);
+        property.setFloorArea(80);
+        property.setBedrooms(2);
+        property.setAddress(id + " Main St");
+        property.setPricePerNight(new BigDecimal("150.00"));
+        property.setMaxGuests(4);
+        property.setAvailable(true);
+        property.setAverageRating(4.5);
+        for (int i = 0; i < imagesPerProperty; i++) {
+            String url = "https://bookinline.s3.eu-north-1.amazonaws.com/" + id + "_" + i + ".jpg";
+            Image image = new Image(id * 100 + i, url, property);
+            if (i % 2 == 0) {
+                image.setDerivativeStatus(DerivativeStatus.READY);
+                image.setThumbnailUrl(url + ".thumbnail.jpg");
+                image.setMediumUrl(url + ".medium.jpg");
+            }
+            property.getImages().add(image);
+        }
+        return property;
+    }
+}
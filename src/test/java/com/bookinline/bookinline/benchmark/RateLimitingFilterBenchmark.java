@@ -0,0 +1,90 @@
+package com.bookinline.bookinline.benchmark;
+
+import com.bookinline.bookinline.security.RateLimitingFilter;
+import com.bookinline.bookinline.security.ratelimit.InMemoryRateLimiterStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Anonymous requests through the {@link RateLimitingFilter.Stage#PRE_AUTH} filter backed by the
+ * in-memory store, from 8 threads at once. With {@code clients=1} every thread hits the same bucket;
+ * with more clients each thread cycles through its own addresses, so the cost is dominated by the
+ * bucket lookup. Buckets drain during warmup, so most measured requests take the rejection path.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test -Djmh.include=RateLimitingFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RateLimitingFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimitingFilter filter;
+
+    @Setup
+    public void setup() {
+        filter = new RateLimitingFilter(RateLimitingFilter.Stage.PRE_AUTH, true,
+                new InMemoryRateLimiterStore(1_000_000, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/properties");
+        private String[] addresses;
+        private int next;
+
+        @Setup
+        public void setup(RateLimitingFilterBenchmark benchmark) {
+            int thread = THREADS.getAndIncrement();
+            int perThread = Math.max(1, benchmark.clients / 8);
+            addresses = new String[perThread];
+            for (int i = 0; i < perThread; i++) {
+                addresses[i] = benchmark.clients == 1
+                        ? "10.0.0.1"
+                        : "10." + thread + "." + (i >> 8) + "." + (i & 0xff);
+            }
+        }
+
+        private MockHttpServletRequest nextRequest() {
+            request.setRemoteAddr(addresses[next]);
+            next = (next + 1) % addresses.length;
+            return request;
+        }
+    }
+
+    @Benchmark
+    public int anonymousRequest(Client client) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(client.nextRequest(), response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+}
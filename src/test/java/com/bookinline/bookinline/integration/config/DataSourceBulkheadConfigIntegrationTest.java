@@ -0,0 +1,111 @@
+package com.bookinline.bookinline.integration.config;
+
+import com.bookinline.bookinline.config.BulkheadDataSource;
+import com.bookinline.bookinline.dto.AuthenticationRequest;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.entity.enums.UserStatus;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.AuthService;
+import com.bookinline.bookinline.service.S3Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class DataSourceBulkheadConfigIntegrationTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private Flyway flyway;
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+    @MockBean
+    private S3Service s3Service;
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    @Test
+    public void DataSource_Query_ReturnsPermitAfterRepositoryCall() {
+        Assertions.assertThat(dataSource).isInstanceOf(BulkheadDataSource.class);
+        BulkheadDataSource bulkhead = (BulkheadDataSource) dataSource;
+        int available = bulkhead.availablePermits();
+
+        userRepository.count();
+
+        Assertions.assertThat(bulkhead.availablePermits()).isEqualTo(available);
+        Assertions.assertThat(meterRegistry.get("db.bulkhead.wait").functionTimer().count()).isPositive();
+        Assertions.assertThat(meterRegistry.get("hikaricp.connections.max").gauge()).isNotNull();
+    }
+
+    @Test
+    public void DataSource_RepositoryCallsOutsideTransaction_ReleasePermitBetweenCalls() throws Exception {
+        BulkheadDataSource bulkhead = (BulkheadDataSource) dataSource;
+        List<Connection> held = new ArrayList<>();
+        try {
+            while (bulkhead.availablePermits() > 1) {
+                held.add(dataSource.getConnection());
+            }
+
+            // With one permit left, the second call only gets a connection if the first one gave its permit back
+            long users = userRepository.count();
+            Assertions.assertThat(bulkhead.availablePermits()).isEqualTo(1);
+            Assertions.assertThat(userRepository.findAll()).hasSize((int) users);
+            Assertions.assertThat(bulkhead.availablePermits()).isEqualTo(1);
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    public void AuthService_Login_ChecksPasswordWithoutHoldingAPermit() {
+        BulkheadDataSource bulkhead = (BulkheadDataSource) dataSource;
+        userRepository.save(User.builder()
+                .fullName("Jane Doe")
+                .email("janedoe91@gmail.com")
+                .password(passwordEncoder.encode("password456"))
+                .phoneNumber("0987654321")
+                .status(UserStatus.ACTIVE)
+                .role(Role.HOST)
+                .build());
+        int available = bulkhead.availablePermits();
+        List<Integer> permitsDuringCheck = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            permitsDuringCheck.add(bulkhead.availablePermits());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(Mockito.any(), Mockito.any());
+
+        authService.login(new AuthenticationRequest("janedoe91@gmail.com", "password456"),
+                new MockHttpServletResponse());
+
+        Assertions.assertThat(permitsDuringCheck).containsExactly(available);
+    }
+}
@@ -0,0 +1,50 @@
+package com.bookinline.bookinline.integration.config;
+
+import com.bookinline.bookinline.service.S3Service;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@SpringBootTest(properties = "app.scheduling.enabled=true")
+@ActiveProfiles("test")
+public class SchedulingConfigIntegrationTest {
+    @Autowired
+    private LockProvider lockProvider;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+    }
+
+    @Test
+    public void LockProvider_Lock_GrantsJobToSingleHolder() {
+        LockConfiguration configuration = new LockConfiguration(Instant.now(), "bookingCheckout",
+                Duration.ofMinutes(1), Duration.ZERO);
+
+        Optional<SimpleLock> first = lockProvider.lock(configuration);
+        Optional<SimpleLock> second = lockProvider.lock(configuration);
+
+        Assertions.assertThat(first).isPresent();
+        Assertions.assertThat(second).isEmpty();
+
+        first.get().unlock();
+        Assertions.assertThat(lockProvider.lock(configuration)).isPresent();
+    }
+}
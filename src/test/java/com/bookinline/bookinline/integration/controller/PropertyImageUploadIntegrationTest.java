@@ -0,0 +1,182 @@
+package com.bookinline.bookinline.integration.controller;
+
+import com.bookinline.bookinline.config.BulkheadDataSource;
+import com.bookinline.bookinline.dto.AuthenticationRequest;
+import com.bookinline.bookinline.dto.ImageUploadConfirmationDto;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.entity.enums.UserStatus;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.S3Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: a test transaction would hold a connection for the whole request and hide what is measured here
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class PropertyImageUploadIntegrationTest {
+    private static final String PROPERTY_JSON = """
+                {"title": "test property",
+                "description": "test description",
+                "propertyType": "APARTMENT",
+                "city": "test city",
+                "floorArea": "100",
+                "bedrooms": "2",
+                "address": "test address",
+                "pricePerNight": "100.0",
+                "maxGuests": "3"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    Property property;
+    String token;
+    int idlePermits;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        flyway.clean();
+        flyway.migrate();
+
+        User host = new User();
+        host.setFullName("Jane Doe");
+        host.setEmail("janedoe91@gmail.com");
+        host.setPassword(new BCryptPasswordEncoder().encode("password456"));
+        host.setRole(Role.HOST);
+        host.setStatus(UserStatus.ACTIVE);
+        host.setPhoneNumber("0987654321");
+        host = userRepository.save(host);
+
+        property = new Property();
+        property.setTitle("Cozy Apartment");
+        property.setDescription("A cozy apartment in the city center.");
+        property.setCity("Cityville");
+        property.setFloorArea(150);
+        property.setBedrooms(2);
+        property.setPropertyType(PropertyType.APARTMENT);
+        property.setAddress("123 Main St");
+        property.setPricePerNight(new BigDecimal("100.00"));
+        property.setMaxGuests(2);
+        property.setAvailable(true);
+        property.setHost(host);
+        property = propertyRepository.save(property);
+
+        AuthenticationRequest request = new AuthenticationRequest("janedoe91@gmail.com", "password456");
+        token = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        token = token.substring(16, token.length() - 2);
+
+        idlePermits = ((BulkheadDataSource) dataSource).availablePermits();
+    }
+
+    @Test
+    void createProperty_UploadsImagesWithoutHoldingAConnection() throws Exception {
+        String url = "https://bucket.s3.amazonaws.com/sea-view.jpg";
+        Mockito.when(s3Service.uploadFiles(Mockito.anyList())).thenAnswer(invocation -> {
+            assertNoConnectionHeld();
+            return List.of(url);
+        });
+
+        mockMvc.perform(multipart("/api/properties/create")
+                        .file(propertyPart())
+                        .file(imagePart())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.imageUrls[0]").value(url));
+
+        Mockito.verify(s3Service).uploadFiles(Mockito.anyList());
+    }
+
+    @Test
+    void updateProperty_UploadsImagesWithoutHoldingAConnection() throws Exception {
+        String url = "https://bucket.s3.amazonaws.com/sea-view.jpg";
+        Mockito.when(s3Service.uploadFiles(Mockito.anyList())).thenAnswer(invocation -> {
+            assertNoConnectionHeld();
+            return List.of(url);
+        });
+
+        mockMvc.perform(multipart("/api/properties/update/" + property.getId())
+                        .file(propertyPart())
+                        .file(imagePart())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.MULTIPART_FORM_DATA)
+                        .with(request -> { request.setMethod("PUT"); return request; }))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("test property"))
+                .andExpect(jsonPath("$.imageUrls[0]").value(url));
+
+        Mockito.verify(s3Service).uploadFiles(Mockito.anyList());
+    }
+
+    @Test
+    void confirmImageUploads_ChecksObjectsWithoutHoldingAConnection() throws Exception {
+        String key = "properties/" + property.getId() + "/abc_sea_view.jpg";
+        Mockito.when(s3Service.getObjectSize(key)).thenAnswer(invocation -> {
+            assertNoConnectionHeld();
+            return Optional.of(2048L);
+        });
+        Mockito.when(s3Service.getFileUrl(key)).thenReturn("https://bucket.s3.amazonaws.com/" + key);
+
+        mockMvc.perform(post("/api/properties/" + property.getId() + "/images/confirm")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ImageUploadConfirmationDto(List.of(key)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imageUrls[0]").value("https://bucket.s3.amazonaws.com/" + key));
+    }
+
+    private void assertNoConnectionHeld() {
+        Assertions.assertThat(((BulkheadDataSource) dataSource).availablePermits()).isEqualTo(idlePermits);
+    }
+
+    private static MockMultipartFile propertyPart() {
+        return new MockMultipartFile("property", "", "application/json", PROPERTY_JSON.getBytes());
+    }
+
+    private static MockMultipartFile imagePart() {
+        return new MockMultipartFile("images", "sea-view.jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+}
@@ -184,7 +184,7 @@ public class UserControllerIntegrationTest {
         host = userRepository.save(host);
 
         property = new Property(null,"Test title","Test description", "Test City", PropertyType.APARTMENT, 100, 2,"Test address",
-                new BigDecimal(100.0),3,true,0.0,host,null,null,null);
+                new BigDecimal(100.0),3,true,0.0, 0, 0L, 0L,host,null,null,null);
         property = propertyRepository.save(property);
 
         booking = new Booking(null, LocalDate.now(),LocalDate.now(),user,property,BookingStatus.CONFIRMED);
@@ -204,7 +204,7 @@ public class UserControllerIntegrationTest {
         host = userRepository.save(host);
 
         property = new Property(null,"Test title","Test description", "Test City", PropertyType.APARTMENT, 200, 1,"Test address",
-                new BigDecimal(100.0),3,true,0.0,host,null,null,null);
+                new BigDecimal(100.0),3,true,0.0, 0, 0L, 0L,host,null,null,null);
         property = propertyRepository.save(property);
 
         booking = new Booking(null, LocalDate.now(),LocalDate.now(),user,property,BookingStatus.CONFIRMED);
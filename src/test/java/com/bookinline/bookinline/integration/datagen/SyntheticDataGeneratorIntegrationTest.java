@@ -0,0 +1,99 @@
+package com.bookinline.bookinline.integration.datagen;
+
+import com.bookinline.bookinline.datagen.DatasetSpec;
+import com.bookinline.bookinline.datagen.DatasetSummary;
+import com.bookinline.bookinline.datagen.SyntheticDataGenerator;
+import com.bookinline.bookinline.service.S3Service;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class SyntheticDataGeneratorIntegrationTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    private final DatasetSpec spec = DatasetSpec.builder()
+            .hosts(20)
+            .guests(300)
+            .properties(100)
+            .bookings(4000)
+            .reviewRate(0.4)
+            .historyDays(365)
+            .horizonDays(180)
+            .seed(7)
+            .build();
+    private DatasetSummary summary;
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+
+        summary = new SyntheticDataGenerator(jdbcTemplate, 250).generate(spec);
+    }
+
+    @Test
+    public void SyntheticDataGenerator_Generate_LoadsRequestedCardinalities() {
+        Assertions.assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(320).isEqualTo(summary.users());
+        Assertions.assertThat(count("SELECT COUNT(*) FROM property")).isEqualTo(100);
+        Assertions.assertThat(count("SELECT COUNT(*) FROM image")).isBetween(100L, 500L).isEqualTo(summary.images());
+        Assertions.assertThat(count("SELECT COUNT(*) FROM booking")).isBetween(3800L, 4100L)
+                .isEqualTo(summary.bookings());
+        Assertions.assertThat(summary.reviews()).isPositive();
+    }
+
+    @Test
+    public void SyntheticDataGenerator_Generate_SkewsBookingsTowardsPopularProperties() {
+        List<Long> perProperty = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM booking GROUP BY property_id ORDER BY COUNT(*) DESC", Long.class);
+        long topTen = perProperty.stream().limit(10).mapToLong(Long::longValue).sum();
+
+        Assertions.assertThat(topTen).isGreaterThan(summary.bookings() / 5);
+        Assertions.assertThat(count("SELECT COUNT(DISTINCT city) FROM property")).isGreaterThan(3);
+    }
+
+    @Test
+    public void SyntheticDataGenerator_Generate_KeepsStaysAndAggregatesConsistent() {
+        long overlapping = count("SELECT COUNT(*) FROM booking a JOIN booking b "
+                + "ON a.property_id = b.property_id AND a.id < b.id "
+                + "AND a.check_in_date < b.check_out_date AND b.check_in_date < a.check_out_date");
+        long staleAggregates = count("SELECT COUNT(*) FROM property p WHERE p.review_count <> "
+                + "(SELECT COUNT(*) FROM review r WHERE r.property_id = p.id) OR p.rating_sum <> "
+                + "(SELECT COALESCE(SUM(r.rating), 0) FROM review r WHERE r.property_id = p.id)");
+        long reviewsOfUnfinishedStays = count("SELECT COUNT(*) FROM review r WHERE NOT EXISTS (SELECT 1 FROM booking b "
+                + "WHERE b.guest_id = r.author_id AND b.property_id = r.property_id AND b.status = 'CHECKED_OUT')");
+        long pendingInThePast = count("SELECT COUNT(*) FROM booking WHERE status = 'PENDING' "
+                + "AND check_in_date < CURRENT_DATE");
+
+        Assertions.assertThat(overlapping).isZero();
+        Assertions.assertThat(staleAggregates).isZero();
+        Assertions.assertThat(reviewsOfUnfinishedStays).isZero();
+        Assertions.assertThat(pendingInThePast).isZero();
+    }
+
+    @Test
+    public void SyntheticDataGenerator_Generate_LeavesSequencesAheadOfGeneratedIds() {
+        for (String table : List.of("users", "property", "image", "booking", "review")) {
+            Assertions.assertThat(count("VALUES NEXT VALUE FOR " + table + "_seq"))
+                    .isGreaterThan(count("SELECT COALESCE(MAX(id), 0) FROM " + table));
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
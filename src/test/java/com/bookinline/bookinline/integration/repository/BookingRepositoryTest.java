@@ -18,8 +18,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -165,6 +169,17 @@ public class BookingRepositoryTest {
         Assertions.assertThat(bookings.size()).isEqualTo(2);
     }
 
+    @Test
+    public void BookingRepository_ExistsOverlappingBooking_IgnoresAdjacentStays() {
+        bookingRepository.saveAll(List.of(booking1, booking2, booking3, booking4));
+        List<BookingStatus> statuses = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+        Assertions.assertThat(bookingRepository.existsOverlappingBooking(property.getId(), statuses,
+                LocalDate.of(2025, 5, 6), LocalDate.of(2025, 5, 9))).isTrue();
+        Assertions.assertThat(bookingRepository.existsOverlappingBooking(property.getId(), statuses,
+                LocalDate.of(2025, 5, 7), LocalDate.of(2025, 6, 1))).isFalse();
+    }
+
     @Test
     public void BookingRepository_ExistsByGuestIdAndHostIdAndStatuses_ReturnsTrue() {
         bookingRepository.saveAll(List.of(booking1, booking2, booking3, booking4));
@@ -173,4 +188,20 @@ public class BookingRepositoryTest {
 
         Assertions.assertThat(exists).isTrue();
     }
+
+    @Test
+    public void BookingRepository_FindAllByOrderByIdAsc_ScrollsByKeyset() {
+        bookingRepository.saveAll(List.of(booking1, booking2, booking3, booking4));
+
+        Window<Booking> first = bookingRepository.findAllByOrderByIdAsc(ScrollPosition.keyset(), Limit.of(3));
+        Window<Booking> second = bookingRepository.findAllByOrderByIdAsc(first.positionAt(first.size() - 1), Limit.of(3));
+
+        Assertions.assertThat(first.getContent()).extracting(Booking::getId)
+                .containsExactly(booking1.getId(), booking2.getId(), booking3.getId());
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(((KeysetScrollPosition) first.positionAt(2)).getKeys())
+                .containsOnlyKeys("id");
+        Assertions.assertThat(second.getContent()).extracting(Booking::getId).containsExactly(booking4.getId());
+        Assertions.assertThat(second.hasNext()).isFalse();
+    }
 }
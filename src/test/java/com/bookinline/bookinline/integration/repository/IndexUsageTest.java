@@ -0,0 +1,153 @@
+package com.bookinline.bookinline.integration.repository;
+
+import com.bookinline.bookinline.dto.PropertyFilterDto;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.ReviewRepository;
+import com.bookinline.bookinline.specification.PropertySpecification;
+import jakarta.transaction.Transactional;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks on H2 that the hot repository queries are answered from an index. The H2 migration only mirrors
+ * the V7 index names without their partial and expression parts, so this guards the query shapes;
+ * {@link PostgresIndexUsageTest} checks the real indexes.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.bookinline.bookinline.integration.repository.IndexUsageTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+public class IndexUsageTest {
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private Flyway flyway;
+
+    List<BookingStatus> activeStatuses = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+    LocalDate checkIn = LocalDate.now().plusDays(1);
+    LocalDate checkOut = LocalDate.now().plusDays(5);
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+        RecordingStatementInspector.statements.clear();
+    }
+
+    @Test
+    public void BookingRepository_FindByPropertyIdAndStatuses_UsesPropertyIndex() {
+        bookingRepository.findByPropertyIdAndStatuses(1L, activeStatuses);
+
+        assertQueryUses("booking_property_status_idx", "booking_property_active_stay_idx");
+    }
+
+    @Test
+    public void BookingRepository_ExistsOverlappingBooking_UsesPropertyIndex() {
+        bookingRepository.existsOverlappingBooking(1L, activeStatuses, checkIn, checkOut);
+
+        assertQueryUses("booking_property_active_stay_idx", "booking_property_status_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByStatusAndCheckOutDateBefore_UsesStatusIndex() {
+        bookingRepository.findByStatusAndCheckOutDateBefore(BookingStatus.CONFIRMED, checkOut);
+
+        assertQueryUses("booking_status_check_out_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByHostIdAndStatus_UsesHostIndex() {
+        bookingRepository.findByHostIdAndStatus(1L, BookingStatus.PENDING, PageRequest.of(0, 10));
+
+        // H2 starts from the booking status, PostgresIndexUsageTest covers property_host_idx
+        assertQueryUses("booking_status_check_out_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByGuestId_UsesGuestIndex() {
+        bookingRepository.findByGuestId(1L, PageRequest.of(0, 10));
+
+        // H2 prefers the index it creates for the foreign key, PostgresIndexUsageTest covers booking_guest_status_idx
+        assertQueryUsesIndexOn("guest_id");
+    }
+
+    @Test
+    public void ReviewRepository_FindByPropertyIdAndAuthorId_UsesPropertyAuthorIndex() {
+        reviewRepository.findByPropertyIdAndAuthorId(1L, 1L);
+
+        assertQueryUses("review_property_author_idx");
+    }
+
+    @Test
+    public void PropertyRepository_FindAllBySpecification_UsesAvailabilityAndBookingIndexes() {
+        PropertyFilterDto filter = PropertyFilterDto.builder()
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .city("Warsaw")
+                .build();
+        Specification<Property> specification = PropertySpecification.withAvailability()
+                .and(PropertySpecification.availableBetween(checkIn, checkOut))
+                .and(new PropertySpecification(filter));
+
+        propertyRepository.findAll(specification, PageRequest.of(0, 10));
+
+        assertQueryUses("property_available_city_idx");
+        assertQueryUses("booking_property_active_stay_idx", "booking_property_status_idx");
+    }
+
+    private void assertQueryUses(String... indexNames) {
+        Assertions.assertThat(planOfFirstStatement()).containsAnyOf(indexNames);
+    }
+
+    // H2 prints the index it looks rows up with as "/* PUBLIC.<index>: <column> = ?n"
+    private void assertQueryUsesIndexOn(String column) {
+        Assertions.assertThat(planOfFirstStatement()).containsPattern("/\\* public\\.\\w+: " + column + " = \\?\\d");
+    }
+
+    // Plan of the first statement the repository call ran, which must not scan a whole table
+    private String planOfFirstStatement() {
+        Assertions.assertThat(RecordingStatementInspector.statements).isNotEmpty();
+        String sql = RecordingStatementInspector.statements.getFirst();
+        String plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                resultSet -> resultSet.next() ? resultSet.getString(1) : "").toLowerCase();
+
+        Assertions.assertThat(plan)
+                .as("Query plan for: %s", sql)
+                .doesNotContain("tablescan");
+        return plan;
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.bookinline.bookinline.integration.repository;
+
+import com.bookinline.bookinline.dto.PropertyFilterDto;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.ReviewRepository;
+import com.bookinline.bookinline.specification.PropertySpecification;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Checks the plans of the hot repository queries against the real V7 indexes on PostgreSQL. Statements are
+ * explained as the generic plan PostgreSQL caches for a prepared statement; that plan cannot match the bound
+ * status list against the partial active-stay index, so active-status lookups land on booking_property_status_idx.
+ * Sequential scans are disabled so the empty tables behave like large ones. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.locations=classpath:db/migration",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.bookinline.bookinline.integration.repository.IndexUsageTest$RecordingStatementInspector"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public class PostgresIndexUsageTest {
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    List<BookingStatus> activeStatuses = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+    LocalDate checkIn = LocalDate.now().plusDays(1);
+    LocalDate checkOut = LocalDate.now().plusDays(5);
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        IndexUsageTest.RecordingStatementInspector.statements.clear();
+    }
+
+    @Test
+    public void BookingRepository_FindByPropertyIdAndStatuses_UsesPropertyIndex() throws SQLException {
+        bookingRepository.findByPropertyIdAndStatuses(1L, activeStatuses);
+
+        assertQueryUses("booking_property_status_idx");
+    }
+
+    @Test
+    public void BookingRepository_ExistsOverlappingBooking_UsesPropertyIndex() throws SQLException {
+        bookingRepository.existsOverlappingBooking(1L, activeStatuses, checkIn, checkOut);
+
+        assertQueryUses("booking_property_status_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByStatusAndCheckOutDateBefore_UsesStatusIndex() throws SQLException {
+        bookingRepository.findByStatusAndCheckOutDateBefore(BookingStatus.CONFIRMED, checkOut);
+
+        assertQueryUses("booking_status_check_out_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByHostIdAndStatus_UsesHostIndex() throws SQLException {
+        bookingRepository.findByHostIdAndStatus(1L, BookingStatus.PENDING, PageRequest.of(0, 10));
+
+        assertQueryUses("property_host_idx");
+    }
+
+    @Test
+    public void BookingRepository_FindByGuestId_UsesGuestIndex() throws SQLException {
+        bookingRepository.findByGuestId(1L, PageRequest.of(0, 10));
+
+        assertQueryUses("booking_guest_status_idx");
+    }
+
+    @Test
+    public void ReviewRepository_FindByPropertyIdAndAuthorId_UsesPropertyAuthorIndex() throws SQLException {
+        reviewRepository.findByPropertyIdAndAuthorId(1L, 1L);
+
+        // Without statistics both review indexes cost the same, either one answers the lookup
+        Assertions.assertThat(planOfFirstStatement()).containsAnyOf("review_property_author_idx", "review_author_idx");
+    }
+
+    @Test
+    public void PropertyRepository_FindAllBySpecification_UsesAvailabilityAndBookingIndexes() throws SQLException {
+        PropertyFilterDto filter = PropertyFilterDto.builder()
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .city("Warsaw")
+                .build();
+        Specification<Property> specification = PropertySpecification.withAvailability()
+                .and(PropertySpecification.availableBetween(checkIn, checkOut))
+                .and(new PropertySpecification(filter));
+
+        propertyRepository.findAll(specification, PageRequest.of(0, 10));
+
+        assertQueryUses("property_available_city_idx", "booking_property_status_idx");
+    }
+
+    // Every listed index must appear in the plan
+    private void assertQueryUses(String... indexNames) throws SQLException {
+        Assertions.assertThat(planOfFirstStatement()).contains(indexNames);
+    }
+
+    // Plan of the first statement the repository call ran, which must not scan a whole table
+    private String planOfFirstStatement() throws SQLException {
+        Assertions.assertThat(IndexUsageTest.RecordingStatementInspector.statements).isNotEmpty();
+        String sql = IndexUsageTest.RecordingStatementInspector.statements.getFirst();
+        String plan = explainGenericPlan(sql);
+        Assertions.assertThat(plan)
+                .as("Query plan for: %s", sql)
+                .doesNotContain("Seq Scan");
+        return plan;
+    }
+
+    // Simple query mode so the driver sends the $n placeholders untouched instead of expecting bind values
+    private static String explainGenericPlan(String sql) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", postgres.getUsername());
+        properties.setProperty("password", postgres.getPassword());
+        properties.setProperty("preferQueryMode", "simple");
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), properties);
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberPlaceholders(sql))) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static String numberPlaceholders(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+}
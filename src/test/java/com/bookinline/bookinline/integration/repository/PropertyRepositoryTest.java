@@ -1,5 +1,6 @@
 package com.bookinline.bookinline.integration.repository;
 
+import com.bookinline.bookinline.dto.PropertyFilterDto;
 import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.entity.enums.PropertyType;
@@ -7,6 +8,7 @@ import com.bookinline.bookinline.entity.enums.Role;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
 import com.bookinline.bookinline.service.S3Service;
+import com.bookinline.bookinline.specification.PropertySpecification;
 import org.assertj.core.api.Assertions;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 @DataJpaTest
@@ -111,4 +114,52 @@ public class PropertyRepositoryTest {
         Assertions.assertThat(propertiesPage).isNotNull();
         Assertions.assertThat(propertiesPage.getTotalElements()).isEqualTo(1);
     }
+
+    @Test
+    public void PropertyRepository_FindAllByTitleFilter_ReturnsMostRelevantFirst() {
+        property2.setTitle("Apartment Loft");
+        propertyRepository.saveAll(List.of(property1, property2));
+        PropertyFilterDto filter = PropertyFilterDto.builder().title("Apartment").build();
+
+        Page<Property> propertiesPage = propertyRepository.findAll(new PropertySpecification(filter), Pageable.ofSize(10));
+
+        Assertions.assertThat(propertiesPage.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(propertiesPage.getContent())
+                .extracting(Property::getTitle)
+                .containsExactly("Apartment Loft", "Cozy Apartment");
+    }
+
+    @Test
+    public void PropertyRepository_FindAllByTitleFilter_PagesThroughTiedResultsInIdOrder() {
+        List<Property> tied = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            tied.add(Property.builder()
+                    .title("Cozy Apartment " + i)
+                    .description("A cozy apartment in the city center.")
+                    .city("Cityville")
+                    .floorArea(80)
+                    .bedrooms(1)
+                    .propertyType(PropertyType.APARTMENT)
+                    .address("123 Main St")
+                    .pricePerNight(new BigDecimal("100.00"))
+                    .maxGuests(2)
+                    .available(true)
+                    .averageRating(0.0)
+                    .reviewCount(0)
+                    .ratingSum(0L)
+                    .host(user)
+                    .build());
+        }
+        propertyRepository.saveAll(tied);
+        PropertyFilterDto filter = PropertyFilterDto.builder().title("Apartment").address("Main").build();
+
+        List<Long> pagedIds = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            propertyRepository.findAll(new PropertySpecification(filter), Pageable.ofSize(2).withPage(page))
+                    .forEach(property -> pagedIds.add(property.getId()));
+        }
+
+        Assertions.assertThat(pagedIds)
+                .containsExactlyElementsOf(tied.stream().map(Property::getId).sorted().toList());
+    }
 }
@@ -1,7 +1,10 @@
 package com.bookinline.bookinline.integration.security;
 
+import com.bookinline.bookinline.security.JwtAuthFilter;
+import com.bookinline.bookinline.security.RateLimitingFilter;
 import com.bookinline.bookinline.security.SecurityConfig;
 import com.bookinline.bookinline.service.S3Service;
+import jakarta.servlet.Filter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -13,6 +16,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -45,4 +50,15 @@ class SecurityConfigTest {
     void passwordEncoderIsBCrypt() {
         assertThat(passwordEncoder).isInstanceOf(PasswordEncoder.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void rateLimitingFiltersSurroundJwtAuthFilter() {
+        List<Class<?>> filters = securityFilterChain.getFilters().stream()
+                .<Class<?>>map(Filter::getClass)
+                .toList();
+
+        int jwtAuthFilter = filters.indexOf(JwtAuthFilter.class);
+        assertThat(filters.indexOf(RateLimitingFilter.class)).isBetween(0, jwtAuthFilter - 1);
+        assertThat(filters.lastIndexOf(RateLimitingFilter.class)).isEqualTo(jwtAuthFilter + 1);
+    }
+}
@@ -15,11 +15,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -51,7 +53,7 @@ public class SecurityIntegrationTest {
 
         guest = new User(null,"johndoe88@gmail.com","password123","John Doe",null, UserStatus.ACTIVE,null, Role.GUEST,null,null);
         guest = userRepository.save(guest);
-        property = new Property(null,"test","test", "test", PropertyType.APARTMENT, 100, 2,"test",new BigDecimal(100.0),3,true,0.0,guest,null,null,null);
+        property = new Property(null,"test","test", "test", PropertyType.APARTMENT, 100, 2,"test",new BigDecimal(100.0),3,true,0.0, 0, 0L, 0L,guest,null,null,null);
         property = propertyRepository.save(property);
     }
 
@@ -64,6 +66,15 @@ public class SecurityIntegrationTest {
         mockMvc.perform(get("/api/admin/properties/1")).andExpect(status().isForbidden());
     }
 
+    @Test
+    void presignedUrlBatchRequiresAuthentication() throws Exception {
+        mockMvc.perform(post("/api/s3/presigned-urls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"keys\":[\"any/object.key\"]}"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(s3Service);
+    }
+
     @Test
     void adminEndpointsAreProtected() throws Exception {
         mockMvc.perform(get("/api/admin/something"))
@@ -0,0 +1,127 @@
+package com.bookinline.bookinline.integration.service;
+
+import com.bookinline.bookinline.dto.BookingRequestDto;
+import com.bookinline.bookinline.dto.BookingResponseDto;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.entity.enums.UserStatus;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.BookingService;
+import com.bookinline.bookinline.service.S3Service;
+import com.bookinline.bookinline.service.impl.BookingAvailabilityIndex;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@SpringBootTest(properties = "booking.availability-index.enabled=true")
+@ActiveProfiles("test")
+public class BookingAvailabilityIndexIntegrationTest {
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private BookingAvailabilityIndex availabilityIndex;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    User guest = new User();
+    User host = new User();
+    Property property = new Property();
+    BookingRequestDto bookingRequestDto = new BookingRequestDto();
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+
+        guest.setFullName("John Doe");
+        guest.setEmail("johndoe88@gmail.com");
+        guest.setPhoneNumber("1234567890");
+        guest.setPassword("password123");
+        guest.setStatus(UserStatus.ACTIVE);
+        guest.setRole(Role.GUEST);
+        guest = userRepository.save(guest);
+
+        host.setFullName("Jane Doe");
+        host.setEmail("janedoe91@gmail.com");
+        host.setPhoneNumber("0987654321");
+        host.setPassword("password456");
+        host.setStatus(UserStatus.ACTIVE);
+        host.setRole(Role.HOST);
+        host = userRepository.save(host);
+
+        property.setTitle("Luxury Villa");
+        property.setDescription("A luxury villa with a sea view.");
+        property.setCity("Beach City");
+        property.setFloorArea(200);
+        property.setBedrooms(3);
+        property.setPropertyType(PropertyType.VILLA);
+        property.setAddress("456 Ocean Ave");
+        property.setPricePerNight(new BigDecimal("500.00"));
+        property.setMaxGuests(6);
+        property.setAvailable(true);
+        property.setHost(host);
+        property = propertyRepository.save(property);
+
+        bookingRequestDto.setCheckInDate(LocalDate.now().plusDays(10));
+        bookingRequestDto.setCheckOutDate(LocalDate.now().plusDays(14));
+        // Drops calendars cached for the ids of previous tests
+        availabilityIndex.rebuild();
+    }
+
+    @Test
+    public void BookingService_BookProperty_ConfirmsStaleOccupiedIndexAgainstDatabase() {
+        BookingResponseDto booked = bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId());
+        Assertions.assertThat(availabilityIndex.isAvailable(property.getId(),
+                bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())).isFalse();
+
+        // Cancelled on another instance: the database changes, this instance's index does not
+        transactionTemplate.executeWithoutResult(status -> bookingRepository.updateStatusByIds(
+                List.of(booked.getId()), BookingStatus.PENDING, BookingStatus.CANCELLED));
+
+        BookingResponseDto rebooked = bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId());
+
+        Assertions.assertThat(rebooked.getId()).isNotEqualTo(booked.getId());
+        Assertions.assertThat(availabilityIndex.isAvailable(property.getId(),
+                bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())).isFalse();
+    }
+
+    @Test
+    public void BookingService_BookProperty_LeavesIndexUntouchedOnRollback() {
+        Assertions.assertThat(availabilityIndex.isAvailable(property.getId(),
+                bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId());
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertThat(bookingRepository.count()).isZero();
+        Assertions.assertThat(availabilityIndex.isAvailable(property.getId(),
+                bookingRequestDto.getCheckInDate(), bookingRequestDto.getCheckOutDate())).isTrue();
+    }
+}
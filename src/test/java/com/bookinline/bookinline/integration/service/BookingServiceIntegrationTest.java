@@ -1,5 +1,6 @@
 package com.bookinline.bookinline.integration.service;
 
+import com.bookinline.bookinline.dto.AvailabilityCalendarDto;
 import com.bookinline.bookinline.dto.BookingRequestDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.entity.Booking;
@@ -9,6 +10,7 @@ import com.bookinline.bookinline.entity.enums.BookingStatus;
 import com.bookinline.bookinline.entity.enums.PropertyType;
 import com.bookinline.bookinline.entity.enums.Role;
 import com.bookinline.bookinline.entity.enums.UserStatus;
+import com.bookinline.bookinline.exception.PropertyNotFoundException;
 import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
@@ -97,13 +99,13 @@ public class BookingServiceIntegrationTest {
         booking2.setStatus(BookingStatus.PENDING);
         booking2 = bookingRepository.save(booking2);
 
-        bookingRequestDto.setCheckInDate(LocalDate.of(2026, 10, 1));
-        bookingRequestDto.setCheckOutDate(LocalDate.of(2026, 10, 7));
+        bookingRequestDto.setCheckInDate(LocalDate.now().plusDays(30));
+        bookingRequestDto.setCheckOutDate(LocalDate.now().plusDays(36));
     }
 
     @Test
     public void BookingService_BookProperty_ReturnsBookingResponseDto() {
-        BookingResponseDto responseDto = bookingService.bookProperty(bookingRequestDto, property.getId(), 1L);
+        BookingResponseDto responseDto = bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId());
 
         Booking booking = bookingRepository.findById(responseDto.getId()).orElse(null);
 
@@ -138,4 +140,45 @@ public class BookingServiceIntegrationTest {
         Assertions.assertThat(confirmedBooking).isNotNull();
         Assertions.assertThat(confirmedBooking.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
     }
+
+    @Test
+    public void BookingService_GetAvailabilityCalendar_ReturnsCoalescedRangesInWindow() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        saveBooking(from.plusDays(10), from.plusDays(14), BookingStatus.CONFIRMED);
+        saveBooking(from.plusDays(14), from.plusDays(16), BookingStatus.PENDING);
+        saveBooking(from.plusDays(20), from.plusDays(25), BookingStatus.CANCELLED);
+        saveBooking(from.plusDays(28), from.plusDays(40), BookingStatus.PENDING);
+
+        AvailabilityCalendarDto calendar = bookingService.getAvailabilityCalendar(
+                property.getId(), from, from.plusDays(30));
+
+        Assertions.assertThat(calendar.getFrom()).isEqualTo(from);
+        Assertions.assertThat(calendar.getTo()).isEqualTo(from.plusDays(30));
+        Assertions.assertThat(calendar.getOccupied()).containsExactly(
+                new LocalDate[]{from.plusDays(10), from.plusDays(16)},
+                new LocalDate[]{from.plusDays(28), from.plusDays(30)});
+    }
+
+    @Test
+    public void BookingService_GetBookingVersion_MovesWithEveryBookingChange() {
+        long initial = bookingService.getBookingVersion(property.getId());
+
+        BookingResponseDto booked = bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId());
+        bookingService.confirmBooking(booked.getId(), host.getId());
+        bookingService.cancelBooking(booked.getId(), guest.getId());
+
+        Assertions.assertThat(bookingService.getBookingVersion(property.getId())).isEqualTo(initial + 3);
+        Assertions.assertThatThrownBy(() -> bookingService.getBookingVersion(-1L))
+                .isInstanceOf(PropertyNotFoundException.class);
+    }
+
+    private void saveBooking(LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setProperty(property);
+        booking.setGuest(guest);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(status);
+        bookingRepository.save(booking);
+    }
 }
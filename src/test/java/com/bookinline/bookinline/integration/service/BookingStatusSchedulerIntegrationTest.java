@@ -11,6 +11,7 @@ import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
 import com.bookinline.bookinline.service.S3Service;
 import com.bookinline.bookinline.service.impl.BookingStatusScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.BeforeEach;
@@ -117,4 +118,22 @@ public class BookingStatusSchedulerIntegrationTest {
         Assertions.assertThat(booking3).isNotNull();
         Assertions.assertThat(booking3.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
     }
+
+    @Test
+    public void BookingStatusScheduler_UpdateBookingStatusToCheckedOut_UpdatesInChunks() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BookingStatusScheduler chunkedScheduler = new BookingStatusScheduler(bookingRepository, meterRegistry, 1);
+
+        chunkedScheduler.updateBookingStatusToCheckedOut();
+
+        Assertions.assertThat(bookingRepository.findById(booking1.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CHECKED_OUT);
+        Assertions.assertThat(bookingRepository.findById(booking2.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CHECKED_OUT);
+        Assertions.assertThat(bookingRepository.findById(booking3.getId()).orElseThrow().getStatus())
+                .isEqualTo(BookingStatus.CONFIRMED);
+        Assertions.assertThat(meterRegistry.get("scheduler.job.rows").tag("job", "bookingCheckout")
+                .counter().count()).isEqualTo(2.0);
+        Assertions.assertThat(meterRegistry.get("scheduler.job.duration").timer().count()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,213 @@
+package com.bookinline.bookinline.integration.service;
+
+import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.PropertyRequestDto;
+import com.bookinline.bookinline.dto.PropertyResponseDto;
+import com.bookinline.bookinline.dto.PropertyResponsePage;
+import com.bookinline.bookinline.dto.ReviewResponsePage;
+import com.bookinline.bookinline.entity.Booking;
+import com.bookinline.bookinline.entity.Image;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.Review;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.ReviewRepository;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.AdminService;
+import com.bookinline.bookinline.service.PropertyService;
+import com.bookinline.bookinline.service.S3Service;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class FetchPlanIntegrationTest {
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private AdminService adminService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User host = userRepository.save(user("host" + i, Role.HOST));
+            User guest = userRepository.save(user("guest" + i, Role.GUEST));
+
+            Property property = new Property();
+            property.setTitle("Apartment " + i);
+            property.setDescription("A cozy apartment.");
+            property.setCity("Cityville");
+            property.setFloorArea(80);
+            property.setBedrooms(1);
+            property.setPropertyType(PropertyType.APARTMENT);
+            property.setAddress(i + " Main St");
+            property.setPricePerNight(new BigDecimal("100.00"));
+            property.setMaxGuests(2);
+            property.setAvailable(true);
+            property.setHost(host);
+            property.getImages().add(new Image(null, "https://images/" + i + "/1.jpg", property));
+            property.getImages().add(new Image(null, "https://images/" + i + "/2.jpg", property));
+            property = propertyRepository.save(property);
+
+            Booking booking = new Booking();
+            booking.setCheckInDate(LocalDate.now().plusDays(i + 1));
+            booking.setCheckOutDate(LocalDate.now().plusDays(i + 2));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setGuest(guest);
+            booking.setProperty(property);
+            bookingRepository.save(booking);
+
+            Review review = new Review();
+            review.setRating(5);
+            review.setComment("Great stay");
+            review.setCreatedAt(LocalDateTime.now());
+            review.setAuthor(guest);
+            review.setProperty(property);
+            reviewRepository.save(review);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void PropertyService_GetAvailableProperties_LoadsImagesInOneBatch() {
+        PropertyResponsePage page = propertyService.getAvailableProperties(0, PAGE_SIZE);
+
+        Assertions.assertThat(page.getProperties()).hasSize(PAGE_SIZE);
+        Assertions.assertThat(page.getProperties()).allSatisfy(property ->
+                Assertions.assertThat(property.getImageUrls()).hasSize(2));
+        // page query + count query + one batched images query
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void AdminService_GetAllBookings_FetchesGuestAndPropertyWithPage() {
+        BookingResponsePage page = adminService.getAllBookings(0, PAGE_SIZE, 1L);
+
+        Assertions.assertThat(page.getBookings()).hasSize(PAGE_SIZE);
+        Assertions.assertThat(page.getBookings()).allSatisfy(booking ->
+                Assertions.assertThat(booking.getGuestName()).isNotNull());
+        // page query + count query
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void AdminService_GetAllReviews_FetchesAuthorWithPage() {
+        ReviewResponsePage page = adminService.getAllReviews(0, PAGE_SIZE, 1L);
+
+        Assertions.assertThat(page.getReviews()).hasSize(PAGE_SIZE);
+        Assertions.assertThat(page.getReviews()).allSatisfy(review ->
+                Assertions.assertThat(review.getAuthorName()).isNotNull());
+        // page query + count query
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    public void PropertyService_CreateProperty_InsertsImagesInOneBatch() throws IOException {
+        Long hostId = userRepository.findByEmail("host0@gmail.com").orElseThrow().getId();
+        List<MultipartFile> images = new ArrayList<>();
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            images.add(new MockMultipartFile("images", i + ".jpg", "image/jpeg", new byte[]{1}));
+            imageUrls.add("https://images/new/" + i + ".jpg");
+        }
+        when(s3Service.uploadFiles(images)).thenReturn(imageUrls);
+        PropertyRequestDto propertyRequestDto = new PropertyRequestDto();
+        propertyRequestDto.setTitle("Luxury Villa");
+        propertyRequestDto.setDescription("A luxury villa with a sea view.");
+        propertyRequestDto.setPropertyType("VILLA");
+        propertyRequestDto.setCity("Beach City");
+        propertyRequestDto.setFloorArea(200);
+        propertyRequestDto.setBedrooms(3);
+        propertyRequestDto.setAddress("456 Ocean Ave, Beach City");
+        propertyRequestDto.setPricePerNight(new BigDecimal("500.00"));
+        propertyRequestDto.setMaxGuests(6);
+        statistics.clear();
+
+        PropertyResponseDto property = propertyService.createProperty(propertyRequestDto, hostId, images);
+        entityManager.flush();
+
+        Assertions.assertThat(property.getImageUrls()).hasSize(5);
+        Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(6);
+        // host query + at most two sequence calls + property insert + one batched images insert
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    public void UserRepository_SaveAll_InsertsUsersInOneBatch() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(user("imported" + i, Role.GUEST));
+        }
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(20);
+        // at most two sequence calls + one batched insert
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private User user(String name, Role role) {
+        User user = new User();
+        user.setFullName(name);
+        user.setEmail(name + "@gmail.com");
+        user.setPassword("password123");
+        user.setPhoneNumber("1234567890");
+        user.setRole(role);
+        return user;
+    }
+}
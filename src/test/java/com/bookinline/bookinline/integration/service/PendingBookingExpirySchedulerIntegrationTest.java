@@ -0,0 +1,152 @@
+package com.bookinline.bookinline.integration.service;
+
+import com.bookinline.bookinline.entity.Booking;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.BookingStatus;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.S3Service;
+import com.bookinline.bookinline.service.impl.BookingAvailabilityIndex;
+import com.bookinline.bookinline.service.impl.PendingBookingExpiryScheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class PendingBookingExpirySchedulerIntegrationTest {
+    @Autowired
+    private PendingBookingExpiryScheduler pendingBookingExpiryScheduler;
+    @Autowired
+    private BookingAvailabilityIndex availabilityIndex;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    User guest = new User();
+    User host = new User();
+    Property property = new Property();
+    Booking staleRequest;
+    Booking freshRequest;
+    Booking missedCheckIn;
+    Booking confirmedBooking;
+
+    @BeforeEach
+    public void setup() {
+
+        flyway.clean();
+        flyway.migrate();
+
+        guest.setFullName("John Doe");
+        guest.setEmail("johndoe88@gmail.com");
+        guest.setPassword("password123");
+        guest.setPhoneNumber("1234567890");
+        guest.setRole(Role.GUEST);
+        guest = userRepository.save(guest);
+
+        host.setFullName("Jane Doe");
+        host.setEmail("janedoe91@gmail.com");
+        host.setPassword("password456");
+        host.setPhoneNumber("0987654321");
+        host.setRole(Role.HOST);
+        host = userRepository.save(host);
+
+        property.setTitle("Luxury Villa");
+        property.setDescription("A luxury villa with a sea view.");
+        property.setCity("Beach City");
+        property.setFloorArea(200);
+        property.setBedrooms(3);
+        property.setPropertyType(PropertyType.VILLA);
+        property.setAddress("456 Ocean Ave");
+        property.setPricePerNight(new BigDecimal("500.00"));
+        property.setMaxGuests(6);
+        property.setAvailable(true);
+        property.setHost(host);
+        propertyRepository.save(property);
+
+        LocalDate today = LocalDate.now();
+        staleRequest = saveBooking(today.plusDays(10), today.plusDays(12), BookingStatus.PENDING,
+                LocalDateTime.now().minusDays(3));
+        freshRequest = saveBooking(today.plusDays(20), today.plusDays(22), BookingStatus.PENDING,
+                LocalDateTime.now().minusHours(1));
+        missedCheckIn = saveBooking(today.minusDays(1), today.plusDays(2), BookingStatus.PENDING,
+                LocalDateTime.now().minusHours(2));
+        confirmedBooking = saveBooking(today.plusDays(30), today.plusDays(32), BookingStatus.CONFIRMED,
+                LocalDateTime.now().minusDays(5));
+    }
+
+    @Test
+    public void PendingBookingExpiryScheduler_CancelExpiredPendingBookings_CancelsStaleAndMissedRequests() {
+        pendingBookingExpiryScheduler.cancelExpiredPendingBookings();
+
+        Assertions.assertThat(statusOf(staleRequest)).isEqualTo(BookingStatus.CANCELLED);
+        Assertions.assertThat(statusOf(missedCheckIn)).isEqualTo(BookingStatus.CANCELLED);
+        Assertions.assertThat(statusOf(freshRequest)).isEqualTo(BookingStatus.PENDING);
+        Assertions.assertThat(statusOf(confirmedBooking)).isEqualTo(BookingStatus.CONFIRMED);
+        Assertions.assertThat(propertyRepository.findBookingVersionById(property.getId())).contains(2L);
+    }
+
+    @Test
+    public void PendingBookingExpiryScheduler_CancelExpiredPendingBookings_CancelsInChunks() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PendingBookingExpiryScheduler chunkedScheduler = new PendingBookingExpiryScheduler(
+                bookingRepository, propertyRepository, availabilityIndex, meterRegistry, Duration.ofHours(48), 1);
+
+        chunkedScheduler.cancelExpiredPendingBookings();
+
+        Assertions.assertThat(statusOf(staleRequest)).isEqualTo(BookingStatus.CANCELLED);
+        Assertions.assertThat(statusOf(missedCheckIn)).isEqualTo(BookingStatus.CANCELLED);
+        Assertions.assertThat(statusOf(freshRequest)).isEqualTo(BookingStatus.PENDING);
+        Assertions.assertThat(meterRegistry.get("scheduler.job.rows").tag("job", "pendingBookingExpiry")
+                .counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void Booking_Save_SetsCreatedAt() {
+        Booking booking = new Booking(null, LocalDate.now().plusDays(40), LocalDate.now().plusDays(41),
+                guest, property, BookingStatus.PENDING);
+
+        booking = bookingRepository.save(booking);
+
+        Assertions.assertThat(booking.getCreatedAt()).isNotNull();
+    }
+
+    private Booking saveBooking(LocalDate checkIn, LocalDate checkOut, BookingStatus status, LocalDateTime createdAt) {
+        Booking booking = new Booking();
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        booking.setStatus(status);
+        booking.setProperty(property);
+        booking.setGuest(guest);
+        booking.setCreatedAt(createdAt);
+        return bookingRepository.save(booking);
+    }
+
+    private BookingStatus statusOf(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getStatus();
+    }
+}
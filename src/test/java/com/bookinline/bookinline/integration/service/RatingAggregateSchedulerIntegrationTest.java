@@ -0,0 +1,100 @@
+package com.bookinline.bookinline.integration.service;
+
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.Review;
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.repository.PropertyRepository;
+import com.bookinline.bookinline.repository.ReviewRepository;
+import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.S3Service;
+import com.bookinline.bookinline.service.impl.RatingAggregateScheduler;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RatingAggregateSchedulerIntegrationTest {
+    @Autowired
+    private RatingAggregateScheduler ratingAggregateScheduler;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PropertyRepository propertyRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    User guest = new User();
+    User host = new User();
+    Property property = new Property();
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+
+        guest.setFullName("John Doe");
+        guest.setEmail("johndoe88@gmail.com");
+        guest.setPassword("password123");
+        guest.setPhoneNumber("1234567890");
+        guest.setRole(Role.GUEST);
+        guest = userRepository.save(guest);
+
+        host.setFullName("Jane Doe");
+        host.setEmail("janedoe91@gmail.com");
+        host.setPassword("password456");
+        host.setPhoneNumber("0987654321");
+        host.setRole(Role.HOST);
+        host = userRepository.save(host);
+
+        property.setTitle("Luxury Villa");
+        property.setDescription("A luxury villa with a sea view.");
+        property.setCity("Beach City");
+        property.setFloorArea(200);
+        property.setBedrooms(3);
+        property.setPropertyType(PropertyType.VILLA);
+        property.setAddress("456 Ocean Ave");
+        property.setPricePerNight(new BigDecimal("500.00"));
+        property.setMaxGuests(6);
+        property.setAvailable(true);
+        property.setHost(host);
+        property = propertyRepository.save(property);
+
+        for (int rating : new int[]{5, 4, 3}) {
+            Review review = new Review();
+            review.setRating(rating);
+            review.setComment("Stay rated " + rating);
+            review.setCreatedAt(LocalDateTime.now());
+            review.setAuthor(guest);
+            review.setProperty(property);
+            reviewRepository.save(review);
+        }
+    }
+
+    @Test
+    public void RatingAggregateScheduler_RecalculateRatingAggregates_ReturnsVoid() {
+        ratingAggregateScheduler.recalculateRatingAggregates();
+
+        property = propertyRepository.findById(property.getId()).orElse(null);
+        Assertions.assertThat(property).isNotNull();
+        Assertions.assertThat(property.getReviewCount()).isEqualTo(3);
+        Assertions.assertThat(property.getRatingSum()).isEqualTo(12L);
+        Assertions.assertThat(property.getAverageRating()).isEqualTo(4.0);
+    }
+}
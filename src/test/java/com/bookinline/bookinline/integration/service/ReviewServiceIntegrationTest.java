@@ -125,6 +125,10 @@ public class ReviewServiceIntegrationTest {
     @Test
     public void ReviewService_DeleteReview_ReturnsVoid() {
         review = reviewRepository.save(review);
+        property.setReviewCount(1);
+        property.setRatingSum(5L);
+        property.setAverageRating(5.0);
+        property = propertyRepository.save(property);
         reviewService.deleteReview(review.getId(), guest.getId());
 
         Review deletedReview = reviewRepository.findById(review.getId()).orElse(null);
@@ -58,7 +58,7 @@ public class UserServiceIntegrationTest {
         testUserRequestDto.setPhoneNumber("0987654321");
         userService.setPhoneNumber(testUserRequestDto, testUser.getId());
 
-        User updatedUser = userRepository.findById(1L).orElse(null);
+        User updatedUser = userRepository.findById(testUser.getId()).orElse(null);
         Assertions.assertThat(updatedUser).isNotNull();
         Assertions.assertThat(updatedUser.getPhoneNumber()).isEqualTo(testUserRequestDto.getPhoneNumber());
     }
@@ -68,7 +68,7 @@ public class UserServiceIntegrationTest {
         testUserRequestDto.setEmail("janedoe91@gmail.com");
         userService.setEmail(testUserRequestDto, testUser.getId());
 
-        User updatedUser = userRepository.findById(1L).orElse(null);
+        User updatedUser = userRepository.findById(testUser.getId()).orElse(null);
         Assertions.assertThat(updatedUser).isNotNull();
         Assertions.assertThat(updatedUser.getEmail()).isEqualTo(testUserRequestDto.getEmail());
     }
@@ -78,7 +78,7 @@ public class UserServiceIntegrationTest {
         testUserRequestDto.setPassword("password456");
         userService.setPassword(testUserRequestDto, testUser.getId());
 
-        User updatedUser = userRepository.findById(1L).orElse(null);
+        User updatedUser = userRepository.findById(testUser.getId()).orElse(null);
         Assertions.assertThat(updatedUser).isNotNull();
         Assertions.assertThat(passwordEncoder.matches(testUserRequestDto.getPassword(), updatedUser.getPassword())).isTrue();
     }
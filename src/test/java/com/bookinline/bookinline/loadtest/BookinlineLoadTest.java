@@ -0,0 +1,269 @@
+package com.bookinline.bookinline.loadtest;
+
+import com.bookinline.bookinline.datagen.DatasetSpec;
+import com.bookinline.bookinline.datagen.SyntheticDataGenerator;
+import com.bookinline.bookinline.datagen.WeightedSampler;
+import com.bookinline.bookinline.dto.AuthenticationRequest;
+import com.bookinline.bookinline.dto.BookingRequestDto;
+import com.bookinline.bookinline.dto.PropertyFilterDto;
+import com.bookinline.bookinline.dto.ReviewRequestDto;
+import com.bookinline.bookinline.service.S3Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+/**
+ * Drives the real controllers over HTTP against the embedded database, loaded with a synthetic dataset.
+ * Each virtual user logs in as a guest and loops over a scripted session: browse, filter, view a property
+ * with its reviews and booked dates, sometimes book (and have the host confirm), sometimes review a past stay.
+ * <p>
+ * Not part of the regular build, run it with {@code mvn -Ploadtest test}. The report is written to
+ * {@code target/loadtest-report.txt} and the test fails when a budget from {@code loadtest.properties}
+ * is exceeded.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+public class BookinlineLoadTest {
+    private static final Logger logger = LoggerFactory.getLogger(BookinlineLoadTest.class);
+    private static final IntPredicate NONE = status -> false;
+    // Another user may take the dates between the availability check and the insert
+    private static final IntPredicate BAD_REQUEST = status -> status == 400;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Flyway flyway;
+    @MockBean
+    private S3Service s3Service;
+
+    private final LoadTestSettings settings = new LoadTestSettings();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<Long, String> hostTokens = new ConcurrentHashMap<>();
+    private LatencyRecorder recorder;
+    private List<Long> propertyIds;
+    private WeightedSampler popularity;
+    private List<String> cities;
+    private Map<Long, String> hostEmails;
+    private Queue<ReviewCandidate> reviewCandidates;
+
+    @BeforeEach
+    public void setup() {
+        flyway.clean();
+        flyway.migrate();
+
+        new SyntheticDataGenerator(jdbcTemplate, 1000).generate(DatasetSpec.builder()
+                .hosts(settings.getInt("dataset.hosts"))
+                .guests(settings.getInt("dataset.guests"))
+                .properties(settings.getInt("dataset.properties"))
+                .bookings(settings.getInt("dataset.bookings"))
+                .reviewRate(0.35)
+                .historyDays(730)
+                .horizonDays(180)
+                .seed(settings.getInt("seed"))
+                .build());
+
+        propertyIds = new ArrayList<>(jdbcTemplate.queryForList("SELECT id FROM property", Long.class));
+        Collections.shuffle(propertyIds, new Random(settings.getInt("seed")));
+        popularity = WeightedSampler.zipf(propertyIds.size(), 1.0);
+        cities = jdbcTemplate.queryForList("SELECT DISTINCT city FROM property", String.class);
+        hostEmails = new ConcurrentHashMap<>();
+        jdbcTemplate.query("SELECT p.id, u.email FROM property p JOIN users u ON u.id = p.host_id",
+                row -> {
+                    hostEmails.put(row.getLong(1), row.getString(2));
+                });
+        reviewCandidates = new ConcurrentLinkedQueue<>(jdbcTemplate.query(
+                "SELECT DISTINCT u.email, b.property_id FROM booking b JOIN users u ON u.id = b.guest_id "
+                        + "WHERE b.status = 'CHECKED_OUT' AND NOT EXISTS (SELECT 1 FROM review r "
+                        + "WHERE r.author_id = b.guest_id AND r.property_id = b.property_id)",
+                (row, rowNum) -> new ReviewCandidate(row.getString(1), row.getLong(2))));
+    }
+
+    @Test
+    public void LoadTest_MixedWorkload_StaysWithinBudgets() throws Exception {
+        int virtualUsers = settings.getInt("virtual-users");
+        List<String> guests = jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE role = 'GUEST' ORDER BY id", String.class);
+        long measureFrom = System.nanoTime() + settings.getDuration("warmup").toNanos();
+        long deadline = measureFrom + settings.getDuration("duration").toNanos();
+        recorder = new LatencyRecorder(measureFrom);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> sessions = new ArrayList<>();
+            for (int i = 0; i < virtualUsers; i++) {
+                String guest = guests.get(i % guests.size());
+                SplittableRandom random = new SplittableRandom(settings.getInt("seed") + i);
+                sessions.add(executor.submit(() -> {
+                    runSession(guest, deadline, random);
+                    return null;
+                }));
+            }
+            for (Future<?> session : sessions) {
+                session.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - measureFrom);
+
+        Map<String, LatencyRecorder.EndpointStats> stats = recorder.summarize(elapsed);
+        List<String> violations = settings.checkBudgets(stats, elapsed);
+        String report = LatencyRecorder.format(stats, violations);
+        logger.info("Load test with {} virtual users over {} s\n{}", virtualUsers, elapsed.toSeconds(), report);
+        Files.writeString(Path.of("target", "loadtest-report.txt"), report);
+
+        Assertions.assertThat(violations).as(report).isEmpty();
+    }
+
+    private void runSession(String guest, long deadline, SplittableRandom random) throws Exception {
+        String token = login(guest);
+        double bookShare = settings.getDouble("mix.book");
+        double confirmShare = settings.getDouble("mix.confirm");
+        double reviewShare = settings.getDouble("mix.review");
+
+        while (System.nanoTime() < deadline) {
+            LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(180));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(7));
+
+            send("browse", get("/api/properties/available?page=" + random.nextInt(5) + "&size=10"), NONE);
+            send("filter", post("/api/properties/filter?page=0&size=10", null, PropertyFilterDto.builder()
+                    .checkIn(checkIn)
+                    .checkOut(checkOut)
+                    .city(cities.get(random.nextInt(cities.size())))
+                    .minBedrooms(random.nextInt(3) == 0 ? 2 : null)
+                    .sortBy("pricePerNight")
+                    .sortOrder("ASC")
+                    .build()), NONE);
+
+            Long propertyId = propertyIds.get(popularity.sample(random));
+            send("detail", get("/api/properties/" + propertyId), NONE);
+            send("reviews", get("/api/reviews/property/" + propertyId + "?page=0&size=10"), NONE);
+            send("dates", get("/api/bookings/property/" + propertyId + "/dates"), NONE);
+
+            if (random.nextDouble() < bookShare) {
+                // Far enough out to rarely collide with the generated stays
+                LocalDate stayStart = LocalDate.now().plusDays(200 + random.nextInt(500));
+                HttpResponse<String> booked = send("book", post("/api/bookings/property/" + propertyId + "/book",
+                        token, new BookingRequestDto(stayStart, stayStart.plusDays(1 + random.nextInt(7)))),
+                        BAD_REQUEST);
+                if (isOk(booked) && random.nextDouble() < confirmShare) {
+                    long bookingId = objectMapper.readTree(booked.body()).get("id").asLong();
+                    send("confirm", put("/api/bookings/" + bookingId + "/confirm", hostToken(propertyId)), NONE);
+                }
+            }
+
+            if (random.nextDouble() < reviewShare) {
+                ReviewCandidate candidate = reviewCandidates.poll();
+                if (candidate != null) {
+                    int rating = 3 + random.nextInt(3);
+                    send("review", post("/api/reviews/property/" + candidate.propertyId() + "/review",
+                            login(candidate.email()), new ReviewRequestDto(rating, "Load test review")), NONE);
+                }
+            }
+        }
+    }
+
+    private String login(String email) throws Exception {
+        HttpResponse<String> response = send("login", post("/api/auth/login", null,
+                new AuthenticationRequest(email, SyntheticDataGenerator.DEFAULT_PASSWORD)), NONE);
+        if (!isOk(response)) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private String hostToken(Long propertyId) throws Exception {
+        String token = hostTokens.get(propertyId);
+        if (token == null) {
+            token = login(hostEmails.get(propertyId));
+            hostTokens.put(propertyId, token);
+        }
+        return token;
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request, IntPredicate rejected)
+            throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            LatencyRecorder.Outcome outcome = isOk(response) ? LatencyRecorder.Outcome.OK
+                    : rejected.test(response.statusCode()) ? LatencyRecorder.Outcome.REJECTED
+                    : LatencyRecorder.Outcome.ERROR;
+            recorder.record(endpoint, startedAt, System.nanoTime() - startedAt, outcome);
+            return response;
+        } catch (IOException e) {
+            recorder.record(endpoint, startedAt, System.nanoTime() - startedAt, LatencyRecorder.Outcome.ERROR);
+            return null;
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) throws IOException {
+        return withToken(HttpRequest.newBuilder(uri(path)), token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path, String token) {
+        return withToken(HttpRequest.newBuilder(uri(path)), token)
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest.Builder withToken(HttpRequest.Builder builder, String token) {
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static boolean isOk(HttpResponse<String> response) {
+        return response != null && response.statusCode() / 100 == 2;
+    }
+
+    private record ReviewCandidate(String email, Long propertyId) {
+    }
+}
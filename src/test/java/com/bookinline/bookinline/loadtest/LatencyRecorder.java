@@ -0,0 +1,101 @@
+package com.bookinline.bookinline.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects per-endpoint response times. Samples taken before {@code measureFrom} (the warmup) are dropped.
+ * Every sample is kept, so percentiles are exact rather than bucketed.
+ */
+public class LatencyRecorder {
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+    private final long measureFrom;
+
+    public LatencyRecorder(long measureFrom) {
+        this.measureFrom = measureFrom;
+    }
+
+    public void record(String endpoint, long startedAt, long latencyNanos, Outcome outcome) {
+        if (startedAt >= measureFrom) {
+            samples.computeIfAbsent(endpoint, name -> new Samples()).add(latencyNanos, outcome);
+        }
+    }
+
+    public Map<String, EndpointStats> summarize(Duration elapsed) {
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        samples.forEach((endpoint, endpointSamples) -> stats.put(endpoint, endpointSamples.summarize(elapsed)));
+        return stats;
+    }
+
+    static String format(Map<String, EndpointStats> stats, List<String> violations) {
+        StringBuilder report = new StringBuilder(EndpointStats.header()).append('\n');
+        stats.forEach((endpoint, endpointStats) -> report.append(endpointStats.row(endpoint)).append('\n'));
+        if (violations.isEmpty()) {
+            report.append("All budgets met\n");
+        } else {
+            violations.forEach(violation -> report.append("BUDGET EXCEEDED: ").append(violation).append('\n'));
+        }
+        return report.toString();
+    }
+
+    public enum Outcome {
+        OK,
+        // Business rule said no, e.g. the dates were taken in the meantime; the request itself was served
+        REJECTED,
+        ERROR
+    }
+
+    public record EndpointStats(int requests, int rejected, int errors, double throughput,
+                                double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        static String header() {
+            return String.format("%-10s %8s %8s %8s %9s %9s %9s %9s %9s",
+                    "endpoint", "requests", "rejected", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        }
+
+        String row(String endpoint) {
+            return String.format("%-10s %8d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f", endpoint, requests, rejected,
+                    errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int rejected;
+        private int errors;
+
+        private synchronized void add(long latencyNanos, Outcome outcome) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (outcome == Outcome.REJECTED) {
+                rejected++;
+            } else if (outcome == Outcome.ERROR) {
+                errors++;
+            }
+        }
+
+        private synchronized EndpointStats summarize(Duration elapsed) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(count, rejected, errors, count / (elapsed.toNanos() / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0));
+        }
+
+        // Nearest-rank percentile
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+}
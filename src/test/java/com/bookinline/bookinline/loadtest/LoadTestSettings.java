@@ -0,0 +1,86 @@
+package com.bookinline.bookinline.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Workload shape and budgets from {@code loadtest.properties}. Any key can be overridden on the command line,
+ * e.g. {@code -Dloadtest.virtual-users=64 -Dloadtest.budget.detail.p99=50}.
+ * <p>
+ * Budgets are {@code loadtest.budget.<endpoint>.p50|p95|p99} in milliseconds, plus the run-wide
+ * {@code loadtest.budget.min-throughput} in requests per second and {@code loadtest.budget.max-error-rate}.
+ */
+public class LoadTestSettings {
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties = new Properties();
+
+    public LoadTestSettings() {
+        try (InputStream defaults = LoadTestSettings.class.getResourceAsStream("/loadtest.properties")) {
+            if (defaults != null) {
+                properties.load(defaults);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PREFIX))
+                .forEach(key -> properties.setProperty(key, System.getProperty(key)));
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    public double getDouble(String key) {
+        return Double.parseDouble(require(key));
+    }
+
+    public Duration getDuration(String key) {
+        return Duration.parse(require(key));
+    }
+
+    public List<String> checkBudgets(Map<String, LatencyRecorder.EndpointStats> stats, Duration elapsed) {
+        List<String> violations = new ArrayList<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            checkLatency(violations, endpoint, "p50", endpointStats.p50Millis());
+            checkLatency(violations, endpoint, "p95", endpointStats.p95Millis());
+            checkLatency(violations, endpoint, "p99", endpointStats.p99Millis());
+        });
+
+        long requests = stats.values().stream().mapToLong(LatencyRecorder.EndpointStats::requests).sum();
+        long errors = stats.values().stream().mapToLong(LatencyRecorder.EndpointStats::errors).sum();
+        double throughput = requests / (elapsed.toNanos() / 1e9);
+        double minThroughput = getDouble("budget.min-throughput");
+        if (throughput < minThroughput) {
+            violations.add(String.format("throughput %.1f req/s is below %.1f req/s", throughput, minThroughput));
+        }
+        double errorRate = requests == 0 ? 0 : (double) errors / requests;
+        double maxErrorRate = getDouble("budget.max-error-rate");
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("error rate %.4f is above %.4f", errorRate, maxErrorRate));
+        }
+        return violations;
+    }
+
+    private void checkLatency(List<String> violations, String endpoint, String percentile, double actualMillis) {
+        String budget = properties.getProperty(PREFIX + "budget." + endpoint + "." + percentile);
+        if (budget != null && actualMillis > Double.parseDouble(budget)) {
+            violations.add(String.format("%s %s %.2f ms is above %s ms", endpoint, percentile, actualMillis, budget));
+        }
+    }
+
+    private String require(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null) {
+            throw new IllegalStateException("Missing load test setting " + PREFIX + key);
+        }
+        return value.trim();
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookinline.bookinline.unit.cache;
+
+import com.bookinline.bookinline.cache.PresignedUrlCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public class PresignedUrlCacheTest {
+    private final List<Duration> signatures = new ArrayList<>();
+    private final Function<Duration, String> signer = duration -> {
+        signatures.add(duration);
+        return "https://bucket/villa.jpg?X-Amz-Expires=" + duration.toSeconds() + "&n=" + signatures.size();
+    };
+
+    private SimpleMeterRegistry meterRegistry;
+    private PresignedUrlCache presignedUrlCache;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        presignedUrlCache = new PresignedUrlCache(true, Duration.ofMinutes(10), 100, meterRegistry);
+    }
+
+    @Test
+    public void PresignedUrlCache_Get_ReusesUrlSignedWithReuseWindow() {
+        String first = presignedUrlCache.get("villa.jpg", 60, signer);
+        String second = presignedUrlCache.get("villa.jpg", 60, signer);
+
+        Assertions.assertThat(second).isEqualTo(first);
+        Assertions.assertThat(signatures).containsExactly(Duration.ofMinutes(70));
+        Assertions.assertThat(meterRegistry.get("cache.gets").tag("cache", "presignedUrls")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void PresignedUrlCache_Get_SignsEachExpiryBucketSeparately() {
+        String hour = presignedUrlCache.get("villa.jpg", 60, signer);
+        String twoHours = presignedUrlCache.get("villa.jpg", 120, signer);
+
+        Assertions.assertThat(twoHours).isNotEqualTo(hour);
+        Assertions.assertThat(signatures).containsExactly(Duration.ofMinutes(70), Duration.ofMinutes(130));
+    }
+
+    @Test
+    public void PresignedUrlCache_Get_BypassesCacheBeyondMaximumSignatureDuration() {
+        presignedUrlCache.get("villa.jpg", (int) Duration.ofDays(7).toMinutes(), signer);
+        presignedUrlCache.get("villa.jpg", (int) Duration.ofDays(7).toMinutes(), signer);
+
+        Assertions.assertThat(signatures).containsExactly(Duration.ofDays(7), Duration.ofDays(7));
+    }
+}
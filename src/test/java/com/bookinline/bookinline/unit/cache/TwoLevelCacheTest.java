@@ -0,0 +1,67 @@
+package com.bookinline.bookinline.unit.cache;
+
+import com.bookinline.bookinline.cache.TwoLevelCache;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TwoLevelCacheTest {
+    private ConcurrentMapCache nearCache;
+    private ConcurrentMapCache remoteCache;
+    private List<Object> publishedEvictions;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    public void setup() {
+        nearCache = new ConcurrentMapCache("properties");
+        remoteCache = new ConcurrentMapCache("properties");
+        publishedEvictions = new ArrayList<>();
+        cache = new TwoLevelCache("properties", nearCache, remoteCache,
+                (name, key) -> publishedEvictions.add(key));
+    }
+
+    @Test
+    public void TwoLevelCache_Get_PopulatesNearCacheFromRemote() {
+        remoteCache.put(1L, "Luxury Villa");
+
+        Assertions.assertThat(cache.get(1L, String.class)).isEqualTo("Luxury Villa");
+        Assertions.assertThat(nearCache.get(1L)).isNotNull();
+        Assertions.assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    public void TwoLevelCache_GetWithLoader_WritesBothTiers() {
+        String value = cache.get(1L, () -> "Luxury Villa");
+
+        Assertions.assertThat(value).isEqualTo("Luxury Villa");
+        Assertions.assertThat(nearCache.get(1L, String.class)).isEqualTo("Luxury Villa");
+        Assertions.assertThat(remoteCache.get(1L, String.class)).isEqualTo("Luxury Villa");
+        Assertions.assertThat(cache.get(1L, () -> "Not loaded")).isEqualTo("Luxury Villa");
+    }
+
+    @Test
+    public void TwoLevelCache_Evict_RemovesBothTiersAndPublishes() {
+        cache.put(1L, "Luxury Villa");
+
+        cache.evict(1L);
+
+        Assertions.assertThat(nearCache.get(1L)).isNull();
+        Assertions.assertThat(remoteCache.get(1L)).isNull();
+        Assertions.assertThat(publishedEvictions).containsExactly(1L);
+    }
+
+    @Test
+    public void TwoLevelCache_EvictLocal_KeepsRemoteEntry() {
+        cache.put(1L, "Luxury Villa");
+
+        cache.evictLocal(1L);
+
+        Assertions.assertThat(nearCache.get(1L)).isNull();
+        Assertions.assertThat(remoteCache.get(1L)).isNotNull();
+        Assertions.assertThat(publishedEvictions).isEmpty();
+    }
+}
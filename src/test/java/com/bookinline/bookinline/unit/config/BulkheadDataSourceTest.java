@@ -0,0 +1,72 @@
+package com.bookinline.bookinline.unit.config;
+
+import com.bookinline.bookinline.config.BulkheadDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkheadDataSourceTest {
+    @Mock
+    private DataSource pool;
+
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    public void setup() {
+        dataSource = new BulkheadDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    public void BulkheadDataSource_GetConnection_RejectsWhenAllPermitsAreHeld() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        Assertions.assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        Assertions.assertThat(registry.get("db.bulkhead.rejected").functionCounter().count()).isEqualTo(1);
+
+        first.close();
+        Assertions.assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    public void BulkheadDataSource_Close_ReleasesPermitOnce() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(target);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        verify(target, times(1)).close();
+        Assertions.assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    public void BulkheadDataSource_GetConnection_ReleasesPermitWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        Assertions.assertThatThrownBy(dataSource::getConnection).hasMessage("Pool exhausted");
+        Assertions.assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,55 @@
+package com.bookinline.bookinline.unit.config;
+
+import com.bookinline.bookinline.config.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class VirtualThreadPinningMonitorTest {
+    private final Object lock = new Object();
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(registry, Duration.ofMillis(5));
+        monitor.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    public void VirtualThreadPinningMonitor_OnPinned_RecordsTimerTaggedWithApplicationFrame() throws Exception {
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        String site = VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor";
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Timer timer = null;
+        while (timer == null && System.nanoTime() < deadline) {
+            timer = registry.find("jvm.threads.virtual.pinned").tag("site", site).timer();
+            Thread.sleep(100);
+        }
+
+        Assertions.assertThat(timer).isNotNull();
+        Assertions.assertThat(timer.count()).isEqualTo(1);
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
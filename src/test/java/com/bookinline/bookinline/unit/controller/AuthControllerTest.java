@@ -7,6 +7,7 @@ import com.bookinline.bookinline.dto.RegisterRequest;
 import com.bookinline.bookinline.entity.enums.Role;
 import com.bookinline.bookinline.security.JwtAuthFilter;
 import com.bookinline.bookinline.security.JwtService;
+import com.bookinline.bookinline.security.PrincipalCache;
 import com.bookinline.bookinline.service.AuthService;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +38,8 @@ class AuthControllerTest {
     private JwtService jwtService;
     @MockBean
     private UserDetailsService userDetailsService;
+    @MockBean
+    private PrincipalCache principalCache;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -1,12 +1,15 @@
 package com.bookinline.bookinline.unit.controller;
 
 import com.bookinline.bookinline.controller.BookingController;
+import com.bookinline.bookinline.dto.AvailabilityCalendarDto;
 import com.bookinline.bookinline.dto.BookingDatesDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.CalendarWindowDto;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.security.JwtAuthFilter;
 import com.bookinline.bookinline.service.BookingService;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +29,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -79,7 +83,7 @@ public class BookingControllerTest {
                 1, 10, 1, 2, true, List.of(
                 new BookingResponseDto(1L, null, null, null, null, null, null, null, null),
                 new BookingResponseDto(2L, null, null, null, null, null, null, null, null)
-            )
+            ), null
         );
 
         Mockito.when(bookingService.getBookingsByUserId(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt())).thenReturn(response);
@@ -100,7 +104,7 @@ public class BookingControllerTest {
                 1, 10, 1, 2, true, List.of(
                 new BookingResponseDto(1L, null, null, null, null, null, null, null, null),
                 new BookingResponseDto(2L, null, null, null, null, null, null, null, null)
-            )
+            ), null
         );
 
         Mockito.when(bookingService.getBookingsByPropertyId(Mockito.anyLong(), Mockito.anyLong(),
@@ -115,6 +119,28 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$.bookings[1].id").value(response.getBookings().get(1).getId()));
     }
 
+    @Test
+    @DisplayName("Get bookings by user ID with cursor - successful scenario")
+    void testGetBookingsByUserIdWithCursor() throws Exception {
+        BookingResponsePage response = new BookingResponsePage(
+                0, 10, -1, -1, false, List.of(
+                new BookingResponseDto(3L, null, null, null, null, null, null, null, null)
+            ), "Mw"
+        );
+
+        Mockito.when(bookingService.scrollBookingsByUserId(Mockito.anyLong(), Mockito.eq(""), Mockito.anyInt()))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/bookings/user")
+                        .param("after", "")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("Mw"))
+                .andExpect(jsonPath("$.bookings[0].id").value(3L));
+        Mockito.verify(bookingService, Mockito.never())
+                .getBookingsByUserId(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
     @Test
     @DisplayName("Get booking dates by property ID - successful scenario")
     void testGetBookingDatesByPropertyId() throws Exception {
@@ -132,4 +158,66 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[1].checkInDate").value(response.get(1).getCheckInDate().toString()))
                 .andExpect(jsonPath("$[1].checkOutDate").value(response.get(1).getCheckOutDate().toString()));
     }
+
+    @Test
+    @DisplayName("Get availability calendar by property ID - revalidates with ETag")
+    void testGetAvailabilityCalendar() throws Exception {
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusMonths(12);
+        AvailabilityCalendarDto response = new AvailabilityCalendarDto(1L, from, to,
+                List.<LocalDate[]>of(new LocalDate[]{from.plusDays(3), from.plusDays(8)}));
+
+        Mockito.when(bookingService.getBookingVersion(1L)).thenReturn(4L);
+        Mockito.when(bookingService.resolveCalendarWindow(null, null)).thenReturn(new CalendarWindowDto(from, to));
+        Mockito.when(bookingService.getAvailabilityCalendar(1L, from, to)).thenReturn(response);
+
+        String eTag = mockMvc.perform(get("/api/bookings/property/1/calendar"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andExpect(jsonPath("$.from").value(from.toString()))
+                .andExpect(jsonPath("$.occupied[0][0]").value(from.plusDays(3).toString()))
+                .andExpect(jsonPath("$.occupied[0][1]").value(from.plusDays(8).toString()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/bookings/property/1/calendar").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(header().string("Cache-Control", "no-cache, public"));
+        Mockito.verify(bookingService, Mockito.times(1)).getAvailabilityCalendar(1L, from, to);
+
+        Mockito.when(bookingService.getBookingVersion(1L)).thenReturn(5L);
+        response.setOccupied(List.of());
+        mockMvc.perform(get("/api/bookings/property/1/calendar").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.occupied").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Get availability calendar by property ID - ETag changes when the day rolls over")
+    void testGetAvailabilityCalendarAfterMidnight() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+        Mockito.when(bookingService.getBookingVersion(1L)).thenReturn(4L);
+        Mockito.when(bookingService.resolveCalendarWindow(null, null))
+                .thenReturn(new CalendarWindowDto(today, today.plusMonths(12)));
+        Mockito.when(bookingService.getAvailabilityCalendar(Mockito.eq(1L), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> new AvailabilityCalendarDto(1L,
+                        invocation.getArgument(1), invocation.getArgument(2), List.of()));
+
+        String eTag = mockMvc.perform(get("/api/bookings/property/1/calendar"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Past midnight the defaulted window starts a day later, with no booking change in between
+        Mockito.when(bookingService.resolveCalendarWindow(null, null))
+                .thenReturn(new CalendarWindowDto(tomorrow, tomorrow.plusMonths(12)));
+
+        String nextETag = mockMvc.perform(get("/api/bookings/property/1/calendar").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value(tomorrow.toString()))
+                .andExpect(jsonPath("$.to").value(tomorrow.plusMonths(12).toString()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        Assertions.assertThat(nextETag).isNotEqualTo(eTag);
+    }
 }
@@ -53,7 +53,7 @@ public class PropertyControllerTest {
                 0, 10, 1, 2, true, List.of(
                         new PropertyResponseDto(1L, null, null, null, null, null, null, null, null,null,null,null,null),
                         new PropertyResponseDto(2L, null, null, null, null, null, null, null, null,null,null,null,null)
-                )
+                ), null
         );
 
         Mockito.when(propertyService.getAvailableProperties(Mockito.anyInt(), Mockito.anyInt())).thenReturn(responsePage);
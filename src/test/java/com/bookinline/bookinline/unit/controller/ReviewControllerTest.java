@@ -77,7 +77,7 @@ public class ReviewControllerTest {
                 List.of(
                         new ReviewResponseDto(1L, 5, null, null, null, null),
                         new ReviewResponseDto(2L, 4, null, null, null, null)
-                )
+                ), null
         );
 
         Mockito.when(reviewService.getReviewsByPropertyId(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt())).thenReturn(response);
@@ -97,7 +97,7 @@ public class ReviewControllerTest {
                 List.of(
                         new ReviewResponseDto(1L, 5, null, null, null, null),
                         new ReviewResponseDto(2L, 4, null, null, null, null)
-                )
+                ), null
         );
 
         Mockito.when(reviewService.getReviewsByUserId(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt())).thenReturn(response);
@@ -0,0 +1,154 @@
+package com.bookinline.bookinline.unit.image;
+
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import com.bookinline.bookinline.entity.Image;
+import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
+import com.bookinline.bookinline.image.ImageDerivativeGenerator;
+import com.bookinline.bookinline.image.ImageDerivativeWorker;
+import com.bookinline.bookinline.repository.ImageRepository;
+import com.bookinline.bookinline.service.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImageDerivativeWorkerTest {
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private PropertyCacheEvictor propertyCacheEvictor;
+
+    private ImageDerivativeWorker worker;
+    private Image image;
+
+    @BeforeEach
+    public void setup() {
+        worker = new ImageDerivativeWorker(imageRepository, s3Service, propertyCacheEvictor,
+                new SimpleMeterRegistry(), true, 1, 10, 3, 50, Duration.ofMinutes(10));
+        Property property = new Property();
+        property.setId(7L);
+        image = new Image(1L, "https://bookinline.s3.eu-north-1.amazonaws.com/abc_villa.png", property);
+        image.setDerivativeAttempts(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    public void ImageDerivativeWorker_Process_UploadsVariantsAndMarksReady() throws IOException {
+        stubClaimedImage();
+        when(s3Service.downloadFile("abc_villa.png")).thenReturn(png(3000, 2000));
+        when(s3Service.uploadFile(anyString(), any(byte[].class), eq("image/jpeg")))
+                .thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+
+        worker.process(1L);
+
+        ArgumentCaptor<byte[]> thumbnail = ArgumentCaptor.forClass(byte[].class);
+        verify(s3Service).uploadFile(eq("abc_villa.png.thumbnail.jpg"), thumbnail.capture(), eq("image/jpeg"));
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.getValue()));
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(400);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(267);
+        verify(imageRepository).completeDerivativeJob(1L, DerivativeStatus.READY,
+                "https://cdn/abc_villa.png.thumbnail.jpg", "https://cdn/abc_villa.png.medium.jpg");
+        verify(propertyCacheEvictor).evictProperty(7L);
+    }
+
+    @Test
+    public void ImageDerivativeWorker_Process_RequeuesUnreadableImage() {
+        stubClaimedImage();
+        when(s3Service.downloadFile("abc_villa.png")).thenReturn(new byte[]{1, 2, 3});
+
+        worker.process(1L);
+
+        verify(imageRepository).updateDerivativeStatus(1L, DerivativeStatus.PENDING);
+        verify(imageRepository, never()).completeDerivativeJob(any(), any(), any(), any());
+    }
+
+    @Test
+    public void ImageDerivativeWorker_Process_FailsAfterMaxAttempts() {
+        stubClaimedImage();
+        image.setDerivativeAttempts(3);
+        when(s3Service.downloadFile("abc_villa.png")).thenThrow(new IllegalStateException("S3 unavailable"));
+
+        worker.process(1L);
+
+        verify(imageRepository).updateDerivativeStatus(1L, DerivativeStatus.FAILED);
+    }
+
+    @Test
+    public void ImageDerivativeGenerator_Resize_KeepsSmallImagesAtOriginalSize() throws IOException {
+        byte[] resized = ImageDerivativeGenerator.resize(png(200, 100), 400);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(resized));
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(200);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    public void ImageDerivativeGenerator_Resize_SubsamplesLargeImages() throws IOException {
+        byte[] resized = ImageDerivativeGenerator.resize(png(3000, 1500), 400);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(resized));
+        Assertions.assertThat(decoded.getWidth()).isEqualTo(400);
+        Assertions.assertThat(decoded.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    public void ImageDerivativeGenerator_Resize_RejectsImagesAbovePixelLimit() throws IOException {
+        byte[] bomb = png(1, 1);
+        // Declare 20000x20000 in the IHDR chunk; only the header is read, so the tiny payload never decodes
+        writeInt(bomb, 16, 20_000);
+        writeInt(bomb, 20, 20_000);
+
+        Assertions.assertThatThrownBy(() -> ImageDerivativeGenerator.resize(bomb, 400))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("pixel limit");
+    }
+
+    private void stubClaimedImage() {
+        when(imageRepository.claimDerivativeJob(eq(1L), eq(DerivativeStatus.PENDING),
+                eq(DerivativeStatus.PROCESSING), any(), any())).thenReturn(1);
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(image));
+        when(s3Service.keyFromUrl(image.getImageUrl())).thenReturn("abc_villa.png");
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage source = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(source, "png", output);
+        return output.toByteArray();
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+}
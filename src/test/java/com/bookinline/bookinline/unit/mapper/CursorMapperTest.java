@@ -0,0 +1,49 @@
+package com.bookinline.bookinline.unit.mapper;
+
+import com.bookinline.bookinline.exception.FailedRequestParsingException;
+import com.bookinline.bookinline.mapper.CursorMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CursorMapperTest {
+
+    @Test
+    void shouldStartFromBeginningForEmptyCursor() {
+        KeysetScrollPosition position = CursorMapper.mapToScrollPosition("");
+
+        assertThat(position.isInitial()).isTrue();
+    }
+
+    @Test
+    void shouldRoundTripLastIdOfWindow() {
+        Window<Long> window = Window.from(List.of(3L, 7L),
+                index -> ScrollPosition.forward(Map.of("id", index == 0 ? 3L : 7L)), true);
+
+        String cursor = CursorMapper.mapToNextCursor(window);
+        KeysetScrollPosition position = CursorMapper.mapToScrollPosition(cursor);
+
+        assertThat(position.getKeys()).containsEntry("id", 7L);
+    }
+
+    @Test
+    void shouldNotReturnCursorForLastWindow() {
+        Window<Long> window = Window.from(List.of(3L),
+                index -> ScrollPosition.forward(Map.of("id", 3L)), false);
+
+        assertThat(CursorMapper.mapToNextCursor(window)).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> CursorMapper.mapToScrollPosition("not a cursor"))
+                .isInstanceOf(FailedRequestParsingException.class);
+    }
+}
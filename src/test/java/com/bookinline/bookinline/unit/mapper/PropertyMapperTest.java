@@ -3,8 +3,11 @@ package com.bookinline.bookinline.unit.mapper;
 import com.bookinline.bookinline.dto.PropertyRequestDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
 import com.bookinline.bookinline.dto.PropertyResponsePage;
+import com.bookinline.bookinline.entity.Image;
 import com.bookinline.bookinline.entity.Property;
+import com.bookinline.bookinline.entity.enums.DerivativeStatus;
 import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.image.ImageVariant;
 import com.bookinline.bookinline.mapper.PropertyMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,7 +29,7 @@ public class PropertyMapperTest {
     @Test
     void shouldMapToPropertyResponseDto() {
         Property property = new Property(1L, "Test Property", "Test Description", "Test City", PropertyType.APARTMENT,
-                2, 50,"Test Address", BigDecimal.valueOf(100), 2, true, 4.5, null, new ArrayList<>(), null, null);
+                2, 50,"Test Address", BigDecimal.valueOf(100), 2, true, 4.5, 0, 0L, 0L, null, new ArrayList<>(), null, null);
 
         PropertyResponseDto responseDto = propertyMapper.mapToPropertyResponseDto(property);
 
@@ -63,15 +66,17 @@ public class PropertyMapperTest {
         assertThat(property.getAddress()).isEqualTo(requestDto.getAddress());
         assertThat(property.getPricePerNight()).isEqualTo(requestDto.getPricePerNight());
         assertThat(property.getMaxGuests()).isEqualTo(requestDto.getMaxGuests());
+        assertThat(property.getReviewCount()).isZero();
+        assertThat(property.getRatingSum()).isZero();
     }
 
     @Test
     void shouldMapToPropertyResponsePage() {
         List<Property> properties = List.of(
                 new Property(1L, "Test Property 1", "Test Description 1", "Test City 1", PropertyType.APARTMENT, 2, 50, "Test Address 1",
-                        BigDecimal.valueOf(100), 2, true, 4.5, null, new ArrayList<>(), null, null),
+                        BigDecimal.valueOf(100), 2, true, 4.5, 0, 0L, 0L, null, new ArrayList<>(), null, null),
                 new Property(2L, "Test Property 2", "Test Description 2", "Test City 2", PropertyType.APARTMENT, 2, 50, "Test Address 2",
-                        BigDecimal.valueOf(200), 4, true, 4.0, null, new ArrayList<>(), null, null)
+                        BigDecimal.valueOf(200), 4, true, 4.0, 0, 0L, 0L, null, new ArrayList<>(), null, null)
         );
 
         Page<Property> page = mock(Page.class);
@@ -95,4 +100,24 @@ public class PropertyMapperTest {
         assertThat(propertyResponsePage.getProperties().get(0).getId()).isEqualTo(properties.get(0).getId());
         assertThat(propertyResponsePage.getProperties().get(1).getId()).isEqualTo(properties.get(1).getId());
     }
+
+    @Test
+    void shouldMapImageUrlsForRequestedVariant() {
+        Property property = new Property(1L, "Test Property", "Test Description", "Test City", PropertyType.APARTMENT,
+                2, 50,"Test Address", BigDecimal.valueOf(100), 2, true, 4.5, 0, 0L, 0L, null, new ArrayList<>(), null, null);
+        Image ready = new Image(1L, "https://images/1.jpg", property);
+        ready.setThumbnailUrl("https://images/1.jpg.thumbnail.jpg");
+        ready.setMediumUrl("https://images/1.jpg.medium.jpg");
+        ready.setDerivativeStatus(DerivativeStatus.READY);
+        Image pending = new Image(2L, "https://images/2.jpg", property);
+        property.getImages().addAll(List.of(ready, pending));
+
+        PropertyResponseDto listing = propertyMapper.mapToPropertyResponseDto(property, ImageVariant.THUMBNAIL);
+        PropertyResponseDto detail = propertyMapper.mapToPropertyResponseDto(property);
+
+        assertThat(listing.getImageUrls())
+                .containsExactly("https://images/1.jpg.thumbnail.jpg", "https://images/2.jpg");
+        assertThat(detail.getImageUrls())
+                .containsExactly("https://images/1.jpg.medium.jpg", "https://images/2.jpg");
+    }
 }
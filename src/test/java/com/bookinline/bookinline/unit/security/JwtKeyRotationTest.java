@@ -0,0 +1,62 @@
+package com.bookinline.bookinline.unit.security;
+
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.entity.enums.Role;
+import com.bookinline.bookinline.security.JwtProperties;
+import com.bookinline.bookinline.security.JwtService;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+public class JwtKeyRotationTest {
+    private static final String OLD_SECRET = "aFWFNBw2wNmVqtkMmQTlRRSAT61X9Wmp";
+    private static final String NEW_SECRET = "R0tat3dS3cr3tK3yF0rB00k1nl1n3Jwt";
+
+    private final User user = new User();
+
+    @BeforeEach
+    public void setup() {
+        user.setEmail("johndoe88@gmail.com");
+        user.setPassword("password123");
+        user.setRole(Role.GUEST);
+    }
+
+    @Test
+    public void JwtService_IsTokenValid_AcceptsTokenSignedWithPreviousKey() {
+        JwtService before = new JwtService(new JwtProperties("2024", Map.of("2024", OLD_SECRET)));
+        JwtService after = new JwtService(new JwtProperties("2025", Map.of("2024", OLD_SECRET, "2025", NEW_SECRET)));
+
+        String oldToken = before.generateToken(user);
+        String newToken = after.generateToken(user);
+
+        Assertions.assertThat(after.isTokenValid(oldToken, user)).isTrue();
+        Assertions.assertThat(after.isTokenValid(newToken, user)).isTrue();
+        Assertions.assertThatThrownBy(() -> before.extractAllClaims(newToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    public void JwtService_ExtractAllClaims_AcceptsTokenWithoutKeyIdSignedWithActiveKey() {
+        JwtService jwtService = new JwtService(new JwtProperties("primary", Map.of("primary", OLD_SECRET)));
+        String legacyToken = Jwts.builder()
+                .setSubject(user.getEmail())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        Assertions.assertThat(jwtService.extractUsername(legacyToken)).isEqualTo(user.getEmail());
+    }
+
+    @Test
+    public void JwtService_Constructor_RejectsUnknownActiveKey() {
+        Assertions.assertThatThrownBy(() -> new JwtService(new JwtProperties("missing", Map.of("primary", OLD_SECRET))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bookinline.bookinline.unit.security;
+
+import com.bookinline.bookinline.entity.User;
+import com.bookinline.bookinline.security.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class PrincipalCacheTest {
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, UserDetails> loader = email -> {
+        loads.incrementAndGet();
+        User user = new User();
+        user.setEmail(email);
+        user.setBookings(List.of());
+        return user;
+    };
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    public void setup() {
+        principalCache = new PrincipalCache(true, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void PrincipalCache_Get_LoadsUserOnce() {
+        UserDetails first = principalCache.get("johndoe88@gmail.com", loader);
+        UserDetails second = principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void PrincipalCache_Evict_ReloadsUser() {
+        principalCache.get("johndoe88@gmail.com", loader);
+
+        principalCache.evict("johndoe88@gmail.com");
+        principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void PrincipalCache_Disabled_AlwaysLoadsUser() {
+        principalCache = new PrincipalCache(false, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+        principalCache.get("johndoe88@gmail.com", loader);
+        principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void PrincipalCache_Get_CachesCopyWithoutCollections() {
+        UserDetails cached = principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(cached).isInstanceOf(User.class);
+        Assertions.assertThat(cached.getUsername()).isEqualTo("johndoe88@gmail.com");
+        Assertions.assertThat(((User) cached).getBookings()).isNull();
+    }
+
+    @Test
+    public void PrincipalCache_EvictInTransaction_WaitsForCommit() {
+        principalCache.get("johndoe88@gmail.com", loader);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            principalCache.evict("johndoe88@gmail.com");
+            principalCache.get("johndoe88@gmail.com", loader);
+            Assertions.assertThat(loads).hasValue(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void PrincipalCache_EvictDuringLoad_DoesNotCacheStaleUser() {
+        // Runs the eviction while the loader is still running, which a loader inside the cache's compute could not do
+        principalCache.get("johndoe88@gmail.com", email -> {
+            UserDetails user = loader.apply(email);
+            principalCache.evict(email);
+            return user;
+        });
+        principalCache.get("johndoe88@gmail.com", loader);
+        principalCache.get("johndoe88@gmail.com", loader);
+
+        Assertions.assertThat(loads).hasValue(2);
+    }
+}
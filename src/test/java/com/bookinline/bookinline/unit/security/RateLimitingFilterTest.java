@@ -0,0 +1,103 @@
+package com.bookinline.bookinline.unit.security;
+
+import com.bookinline.bookinline.security.RateLimitingFilter;
+import com.bookinline.bookinline.security.ratelimit.InMemoryRateLimiterStore;
+import com.bookinline.bookinline.security.ratelimit.RateLimitTier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RateLimitingFilterTest {
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingFilter preAuthFilter;
+    private RateLimitingFilter postAuthFilter;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        InMemoryRateLimiterStore store = new InMemoryRateLimiterStore(1000, Duration.ofHours(2));
+        preAuthFilter = new RateLimitingFilter(RateLimitingFilter.Stage.PRE_AUTH, true, store, meterRegistry);
+        postAuthFilter = new RateLimitingFilter(RateLimitingFilter.Stage.POST_AUTH, true, store, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void RateLimitingFilter_PreAuth_RejectsAnonymousClientOverCapacity() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertThat(perform(preAuthFilter, "10.0.0.1", null).getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+        Assertions.assertThat(perform(preAuthFilter, "10.0.0.1", null).getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        Assertions.assertThat(perform(preAuthFilter, "10.0.0.2", null).getStatus()).isEqualTo(HttpStatus.OK.value());
+        Assertions.assertThat(perform(preAuthFilter, "10.0.0.1", "Bearer token").getStatus())
+                .isEqualTo(HttpStatus.OK.value());
+        Assertions.assertThat(rejected(RateLimitTier.ANONYMOUS)).isEqualTo(1.0);
+        Assertions.assertThat(rejected(RateLimitTier.USER)).isZero();
+    }
+
+    @Test
+    public void RateLimitingFilter_PostAuth_UsesAdminTierForAdmins() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin@gmail.com", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        for (int i = 0; i < 5000; i++) {
+            perform(postAuthFilter, "10.0.0.1", "Bearer token");
+        }
+
+        Assertions.assertThat(perform(postAuthFilter, "10.0.0.2", "Bearer token").getStatus())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        Assertions.assertThat(rejected(RateLimitTier.ADMIN)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void RateLimitingFilter_PostAuth_SkipsAnonymousRequests() throws Exception {
+        for (int i = 0; i < 1001; i++) {
+            Assertions.assertThat(perform(postAuthFilter, "10.0.0.1", null).getStatus())
+                    .isEqualTo(HttpStatus.OK.value());
+        }
+    }
+
+    @Test
+    public void InMemoryRateLimiterStore_TryConsume_StaysWithinMaxSize() {
+        InMemoryRateLimiterStore store = new InMemoryRateLimiterStore(10, Duration.ofHours(2));
+
+        for (int i = 0; i < 100; i++) {
+            store.tryConsume("10.0.0." + i, RateLimitTier.ANONYMOUS);
+        }
+
+        Assertions.assertThat(store.size()).isLessThanOrEqualTo(10);
+    }
+
+    private MockHttpServletResponse perform(RateLimitingFilter filter, String remoteAddress,
+                                            String authHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/properties/available");
+        request.setRemoteAddr(remoteAddress);
+        if (authHeader != null) {
+            request.addHeader("Authorization", authHeader);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private double rejected(RateLimitTier tier) {
+        return meterRegistry.get("rate_limit.rejected").tag("tier", tier.tagValue()).counter().count();
+    }
+}
@@ -1,5 +1,6 @@
 package com.bookinline.bookinline.unit.service;
 
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
 import com.bookinline.bookinline.dto.ReviewResponseDto;
@@ -15,6 +16,7 @@ import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.ReviewRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.security.PrincipalCache;
 import com.bookinline.bookinline.service.impl.AdminServiceImpl;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -42,6 +45,10 @@ public class AdminServiceTest {
     private BookingRepository bookingRepository;
     @Mock
     private ReviewRepository reviewRepository;
+    @Mock
+    private PropertyCacheEvictor propertyCacheEvictor;
+    @Mock
+    private PrincipalCache principalCache;
     @InjectMocks
     private AdminServiceImpl adminService;
 
@@ -130,4 +137,14 @@ public class AdminServiceTest {
         Assertions.assertThat(responseDto).isNotNull();
         Assertions.assertThat(responseDto.getId()).isEqualTo(review.getId());
     }
+
+    @Test
+    public void AdminService_ChangePropertyAvailability_EvictsCachedProperty() {
+        property.setAvailable(true);
+        when(propertyRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(property));
+
+        PropertyResponseDto propertyResponseDto = adminService.changePropertyAvailability(property.getId(), 1L);
+        Assertions.assertThat(propertyResponseDto.getAvailable()).isFalse();
+        verify(propertyCacheEvictor).evictProperty(property.getId());
+    }
 }
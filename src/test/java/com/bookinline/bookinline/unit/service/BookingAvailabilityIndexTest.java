@@ -0,0 +1,119 @@
+package com.bookinline.bookinline.unit.service;
+
+import com.bookinline.bookinline.dto.PropertyBookingDatesDto;
+import com.bookinline.bookinline.repository.BookingRepository;
+import com.bookinline.bookinline.service.impl.BookingAvailabilityIndex;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BookingAvailabilityIndexTest {
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingAvailabilityIndex availabilityIndex;
+
+    LocalDate checkIn = LocalDate.now().plusDays(10);
+    LocalDate checkOut = LocalDate.now().plusDays(15);
+
+    @BeforeEach
+    public void setup() {
+        availabilityIndex = new BookingAvailabilityIndex(bookingRepository, true, Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void BookingAvailabilityIndex_IsAvailable_DetectsOverlappingNights() {
+        when(bookingRepository.findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any()))
+                .thenReturn(List.of(new PropertyBookingDatesDto(1L, checkIn, checkOut)));
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn.minusDays(3), checkIn.plusDays(1))).isFalse();
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkOut.minusDays(1), checkOut.plusDays(3))).isFalse();
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn.minusDays(3), checkIn)).isTrue();
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkOut, checkOut.plusDays(3))).isTrue();
+        verify(bookingRepository, times(1))
+                .findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any());
+    }
+
+    @Test
+    public void BookingAvailabilityIndex_OccupyAndRelease_SpanYearBoundary() {
+        LocalDate newYearsEve = LocalDate.of(LocalDate.now().getYear() + 1, 12, 30);
+        LocalDate afterNewYear = newYearsEve.plusDays(5);
+        when(bookingRepository.findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any()))
+                .thenReturn(List.of());
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, newYearsEve, afterNewYear)).isTrue();
+
+        availabilityIndex.occupy(1L, newYearsEve, afterNewYear);
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, newYearsEve.minusDays(2), newYearsEve.plusDays(1)))
+                .isFalse();
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, afterNewYear.minusDays(1), afterNewYear.plusDays(1)))
+                .isFalse();
+
+        availabilityIndex.release(1L, newYearsEve, afterNewYear);
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, newYearsEve, afterNewYear)).isTrue();
+    }
+
+    @Test
+    public void BookingAvailabilityIndex_Rebuild_LoadsAllPropertiesFromOneQuery() {
+        when(bookingRepository.streamBookingDates(Mockito.anyList(), Mockito.any()))
+                .thenReturn(Stream.of(
+                        new PropertyBookingDatesDto(1L, checkIn, checkOut),
+                        new PropertyBookingDatesDto(2L, checkOut, checkOut.plusDays(2))));
+
+        availabilityIndex.rebuild();
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn, checkOut)).isFalse();
+        Assertions.assertThat(availabilityIndex.isAvailable(2L, checkIn, checkOut)).isTrue();
+        Assertions.assertThat(availabilityIndex.isAvailable(2L, checkOut.plusDays(1), checkOut.plusDays(4))).isFalse();
+        verify(bookingRepository, Mockito.never())
+                .findBookingDatesByPropertyId(Mockito.anyLong(), Mockito.anyList(), Mockito.any());
+    }
+
+    @Test
+    public void BookingAvailabilityIndex_Rebuild_KeepsBookingCommittedDuringStream() {
+        when(bookingRepository.findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any()))
+                .thenReturn(List.of());
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn, checkOut)).isTrue();
+        // The stream was opened before the booking committed, so it still returns the old dates of property 1
+        when(bookingRepository.streamBookingDates(Mockito.anyList(), Mockito.any()))
+                .thenReturn(Stream.of(
+                        new PropertyBookingDatesDto(1L, checkOut, checkOut.plusDays(2)),
+                        new PropertyBookingDatesDto(2L, checkIn, checkOut))
+                        .peek(dates -> {
+                            if (dates.getPropertyId() == 2L) {
+                                availabilityIndex.occupy(1L, checkIn, checkOut);
+                            }
+                        }));
+
+        availabilityIndex.rebuild();
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn, checkOut)).isFalse();
+        Assertions.assertThat(availabilityIndex.isAvailable(2L, checkIn, checkOut)).isFalse();
+    }
+
+    @Test
+    public void BookingAvailabilityIndex_Occupy_SkipsPropertiesWithoutCalendar() {
+        availabilityIndex.occupy(1L, checkIn, checkOut);
+        when(bookingRepository.findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any()))
+                .thenReturn(List.of(new PropertyBookingDatesDto(1L, checkIn, checkOut)));
+
+        Assertions.assertThat(availabilityIndex.isAvailable(1L, checkIn, checkOut)).isFalse();
+        verify(bookingRepository, times(1))
+                .findBookingDatesByPropertyId(Mockito.eq(1L), Mockito.anyList(), Mockito.any());
+    }
+}
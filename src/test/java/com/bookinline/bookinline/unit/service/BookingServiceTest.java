@@ -1,8 +1,10 @@
 package com.bookinline.bookinline.unit.service;
 
 import com.bookinline.bookinline.dto.BookingDatesDto;
+import com.bookinline.bookinline.dto.BookingRequestDto;
 import com.bookinline.bookinline.dto.BookingResponseDto;
 import com.bookinline.bookinline.dto.BookingResponsePage;
+import com.bookinline.bookinline.dto.CalendarWindowDto;
 import com.bookinline.bookinline.entity.Booking;
 import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.User;
@@ -10,9 +12,12 @@ import com.bookinline.bookinline.entity.enums.BookingStatus;
 import com.bookinline.bookinline.entity.enums.PropertyType;
 import com.bookinline.bookinline.entity.enums.Role;
 import com.bookinline.bookinline.entity.enums.UserStatus;
+import com.bookinline.bookinline.exception.InvalidBookingDatesException;
+import com.bookinline.bookinline.exception.PropertyNotAvailableException;
 import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.impl.BookingAvailabilityIndex;
 import com.bookinline.bookinline.service.impl.BookingServiceImpl;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,10 +27,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +47,8 @@ public class BookingServiceTest {
     private PropertyRepository propertyRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private BookingAvailabilityIndex availabilityIndex;
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -162,4 +171,31 @@ public class BookingServiceTest {
         Assertions.assertThat(bookings).hasSize(2);
         Assertions.assertThat(bookings.getFirst().getCheckInDate()).isEqualTo(booking1.getCheckInDate());
     }
+
+    @Test
+    public void BookingService_ResolveCalendarWindow_DefaultsAndClampsToToday() {
+        LocalDate today = LocalDate.now();
+
+        CalendarWindowDto defaulted = bookingService.resolveCalendarWindow(null, null);
+        CalendarWindowDto clamped = bookingService.resolveCalendarWindow(today.minusDays(5), today.plusDays(10));
+
+        Assertions.assertThat(defaulted).isEqualTo(new CalendarWindowDto(today, today.plusMonths(12)));
+        Assertions.assertThat(clamped).isEqualTo(new CalendarWindowDto(today, today.plusDays(10)));
+        Assertions.assertThatThrownBy(() -> bookingService.resolveCalendarWindow(today, today.plusMonths(25)))
+                .isInstanceOf(InvalidBookingDatesException.class);
+    }
+
+    @Test
+    public void BookingService_BookProperty_MapsExclusionViolationToPropertyNotAvailable() {
+        BookingRequestDto bookingRequestDto = new BookingRequestDto();
+        bookingRequestDto.setCheckInDate(LocalDate.now().plusDays(10));
+        bookingRequestDto.setCheckOutDate(LocalDate.now().plusDays(15));
+        when(propertyRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(property));
+        when(userRepository.findById(Mockito.anyLong())).thenReturn(Optional.of(guest));
+        when(bookingRepository.saveAndFlush(Mockito.any(Booking.class))).thenThrow(new DataIntegrityViolationException(
+                "booking_no_overlapping_stays", new SQLException("conflicting key value", "23P01")));
+
+        Assertions.assertThatThrownBy(() -> bookingService.bookProperty(bookingRequestDto, property.getId(), guest.getId()))
+                .isInstanceOf(PropertyNotAvailableException.class);
+    }
 }
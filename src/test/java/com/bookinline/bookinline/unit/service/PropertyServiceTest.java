@@ -1,13 +1,21 @@
 package com.bookinline.bookinline.unit.service;
 
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
+import com.bookinline.bookinline.dto.ImageUploadConfirmationDto;
+import com.bookinline.bookinline.dto.ImageUploadRequestDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotDto;
+import com.bookinline.bookinline.dto.ImageUploadSlotsRequestDto;
 import com.bookinline.bookinline.dto.PropertyRequestDto;
 import com.bookinline.bookinline.dto.PropertyResponseDto;
 import com.bookinline.bookinline.dto.PropertyResponsePage;
 import com.bookinline.bookinline.entity.Property;
 import com.bookinline.bookinline.entity.User;
 import com.bookinline.bookinline.entity.enums.PropertyType;
+import com.bookinline.bookinline.exception.InvalidPropertyDataException;
+import com.bookinline.bookinline.image.ImagesUploadedEvent;
 import com.bookinline.bookinline.repository.PropertyRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.service.S3Service;
 import com.bookinline.bookinline.service.impl.PropertyServiceImpl;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +25,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +47,12 @@ public class PropertyServiceTest {
     private UserRepository userRepository;
     @Mock
     private PropertyRepository propertyRepository;
+    @Mock
+    private PropertyCacheEvictor propertyCacheEvictor;
+    @Mock
+    private S3Service s3Service;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private PropertyServiceImpl propertyService;
 
@@ -53,6 +73,10 @@ public class PropertyServiceTest {
         property.setMaxGuests(6);
         property.setAvailable(true);
         property.setHost(user);
+        property.setId(1L);
+        user.setId(1L);
+        ReflectionTestUtils.setField(propertyService, "maxImageSize", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(propertyService, "uploadUrlExpirationInMinutes", 15);
 
         propertyRequestDto.setTitle("Luxury Villa");
         propertyRequestDto.setDescription("A luxury villa with a sea view.");
@@ -91,4 +115,80 @@ public class PropertyServiceTest {
         Assertions.assertThat(responsePage.getProperties()).hasSize(1);
         Assertions.assertThat(responsePage.getProperties().get(0).getTitle()).isEqualTo(property.getTitle());
     }
+
+    @Test
+    public void PropertyService_CreateImageUploadSlots_ReturnsPresignedSlotsScopedToProperty() {
+        when(propertyRepository.findWithImagesById(1L)).thenReturn(Optional.of(property));
+        when(s3Service.generatePresignedUploadUrl(Mockito.startsWith("properties/1/"), Mockito.eq("image/jpeg"),
+                Mockito.eq(2048L), Mockito.eq(15))).thenReturn("https://bucket/presigned-put");
+        ImageUploadSlotsRequestDto request = new ImageUploadSlotsRequestDto(
+                List.of(new ImageUploadRequestDto("sea view.jpg", "image/jpeg", 2048L)));
+
+        List<ImageUploadSlotDto> slots = propertyService.createImageUploadSlots(1L, 1L, request);
+
+        Assertions.assertThat(slots).hasSize(1);
+        Assertions.assertThat(slots.get(0).getKey()).startsWith("properties/1/").endsWith("_sea_view.jpg");
+        Assertions.assertThat(slots.get(0).getUploadUrl()).isEqualTo("https://bucket/presigned-put");
+        Assertions.assertThat(slots.get(0).getContentLength()).isEqualTo(2048L);
+    }
+
+    @Test
+    public void PropertyService_CreateImageUploadSlots_RejectsOversizedImage() {
+        when(propertyRepository.findWithImagesById(1L)).thenReturn(Optional.of(property));
+        ImageUploadSlotsRequestDto request = new ImageUploadSlotsRequestDto(
+                List.of(new ImageUploadRequestDto("huge.jpg", "image/jpeg", DataSize.ofMegabytes(11).toBytes())));
+
+        Assertions.assertThatThrownBy(() -> propertyService.createImageUploadSlots(1L, 1L, request))
+                .isInstanceOf(InvalidPropertyDataException.class);
+        Mockito.verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    public void PropertyService_ConfirmImageUploads_AttachesUploadedImages() {
+        String key = "properties/1/abc_sea_view.jpg";
+        when(propertyRepository.findWithImagesById(1L)).thenReturn(Optional.of(property));
+        when(propertyRepository.save(property)).thenReturn(property);
+        when(s3Service.getObjectSize(key)).thenReturn(Optional.of(2048L));
+        when(s3Service.getFileUrl(key)).thenReturn("https://bucket/" + key);
+
+        PropertyResponseDto response = propertyService.confirmImageUploads(1L, 1L,
+                new ImageUploadConfirmationDto(List.of(key, key)));
+
+        Assertions.assertThat(response.getImageUrls()).containsExactly("https://bucket/" + key);
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(ImagesUploadedEvent.class));
+        Mockito.verify(propertyCacheEvictor).evictProperty(1L);
+    }
+
+    @Test
+    public void PropertyService_ConfirmImageUploads_RejectsMissingOrForeignObjects() {
+        when(propertyRepository.findWithImagesById(1L)).thenReturn(Optional.of(property));
+        when(s3Service.getObjectSize("properties/1/missing.jpg")).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> propertyService.confirmImageUploads(1L, 1L,
+                        new ImageUploadConfirmationDto(List.of("properties/1/missing.jpg"))))
+                .isInstanceOf(InvalidPropertyDataException.class);
+        Assertions.assertThatThrownBy(() -> propertyService.confirmImageUploads(1L, 1L,
+                        new ImageUploadConfirmationDto(List.of("properties/2/other.jpg"))))
+                .isInstanceOf(InvalidPropertyDataException.class);
+        Assertions.assertThat(property.getImages()).isEmpty();
+        Mockito.verify(propertyRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    public void PropertyService_UpdateProperty_DeletesUploadedImagesWhenSaveFails() throws IOException {
+        String url = "https://bucket.s3.amazonaws.com/new-image.jpg";
+        property.setImages(new ArrayList<>());
+        MockMultipartFile file = new MockMultipartFile("images", "new-image.jpg", "image/jpeg", new byte[]{1, 2, 3});
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(propertyRepository.findWithImagesById(1L)).thenReturn(Optional.of(property));
+        when(s3Service.uploadFiles(List.of(file))).thenReturn(List.of(url));
+        when(s3Service.keyFromUrl(url)).thenReturn("new-image.jpg");
+        when(propertyRepository.save(property)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        Assertions.assertThatThrownBy(() -> propertyService.updateProperty(1L, propertyRequestDto, 1L, List.of(file)))
+                .isInstanceOf(IllegalStateException.class);
+
+        Mockito.verify(s3Service).deleteFile("new-image.jpg");
+        Mockito.verifyNoInteractions(eventPublisher, propertyCacheEvictor);
+    }
 }
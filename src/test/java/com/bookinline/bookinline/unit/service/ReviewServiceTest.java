@@ -1,5 +1,6 @@
 package com.bookinline.bookinline.unit.service;
 
+import com.bookinline.bookinline.cache.PropertyCacheEvictor;
 import com.bookinline.bookinline.dto.ReviewResponseDto;
 import com.bookinline.bookinline.dto.ReviewResponsePage;
 import com.bookinline.bookinline.entity.Booking;
@@ -40,6 +41,8 @@ public class ReviewServiceTest {
     private UserRepository userRepository;
     @Mock
     private PropertyRepository propertyRepository;
+    @Mock
+    private PropertyCacheEvictor propertyCacheEvictor;
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
@@ -0,0 +1,160 @@
+package com.bookinline.bookinline.unit.service;
+
+import com.bookinline.bookinline.cache.PresignedUrlCache;
+import com.bookinline.bookinline.repository.ImageRepository;
+import com.bookinline.bookinline.service.impl.S3ServiceImpl;
+import com.bookinline.bookinline.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class S3ServiceTest {
+    private InMemoryS3Client s3Client;
+    private ExecutorService executor;
+    private S3ServiceImpl s3Service;
+
+    @BeforeEach
+    public void setup() {
+        s3Client = new InMemoryS3Client();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        s3Service = new S3ServiceImpl(s3Client, null, null, null, executor, 2,
+                DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(s3Service, "bucket", "bookinline");
+        ReflectionTestUtils.setField(s3Service, "region", "eu-north-1");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void S3Service_UploadFiles_ReturnsUrlsInOrderWithBoundedConcurrency() throws IOException {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            files.add(image("image" + i + ".jpg", 1024));
+        }
+
+        List<String> urls = s3Service.uploadFiles(files);
+
+        Assertions.assertThat(urls).hasSize(6);
+        for (int i = 0; i < 6; i++) {
+            Assertions.assertThat(urls.get(i))
+                    .startsWith("https://bookinline.s3.eu-north-1.amazonaws.com/")
+                    .endsWith("_image" + i + ".jpg");
+        }
+        Assertions.assertThat(s3Client.objects()).hasSize(6);
+        Assertions.assertThat(s3Client.maxConcurrentRequests()).isBetween(1, 2);
+    }
+
+    @Test
+    public void S3Service_UploadFile_UsesMultipartUploadForLargeFiles() throws IOException {
+        MultipartFile file = image("large.jpg", 12 * 1024 * 1024);
+
+        String url = s3Service.uploadFile(file);
+
+        String key = url.substring(url.lastIndexOf('/') + 1);
+        Assertions.assertThat(s3Client.objects().get(key)).isEqualTo(file.getBytes());
+        Assertions.assertThat(s3Client.maxConcurrentRequests()).isZero();
+    }
+
+    @Test
+    public void S3Service_UploadFile_AbortsFailedMultipartUpload() {
+        s3Client.failOnKeyContaining("broken");
+
+        Assertions.assertThatThrownBy(() -> s3Service.uploadFile(image("broken.jpg", 12 * 1024 * 1024)))
+                .isInstanceOf(RuntimeException.class);
+        Assertions.assertThat(s3Client.abortedUploads()).hasSize(1);
+        Assertions.assertThat(s3Client.objects()).isEmpty();
+    }
+
+    @Test
+    public void S3Service_UploadFiles_DeletesUploadedObjectsOnFailure() {
+        s3Client.failOnKeyContaining("broken");
+        List<MultipartFile> files = List.of(
+                image("image1.jpg", 1024),
+                image("broken.jpg", 1024),
+                image("image2.jpg", 1024));
+
+        Assertions.assertThatThrownBy(() -> s3Service.uploadFiles(files))
+                .isInstanceOf(IOException.class);
+        Assertions.assertThat(s3Client.objects()).isEmpty();
+    }
+
+    @Test
+    public void S3Service_GetObjectSize_ReadsSizeOfDirectUploadsWithHead() {
+        String url = s3Service.uploadFile("properties/1/abc_villa.jpg", new byte[2048], "image/jpeg");
+
+        Assertions.assertThat(s3Service.keyFromUrl(url)).isEqualTo("properties/1/abc_villa.jpg");
+        Assertions.assertThat(s3Service.getObjectSize("properties/1/abc_villa.jpg")).contains(2048L);
+        Assertions.assertThat(s3Service.getObjectSize("properties/1/missing.jpg")).isEmpty();
+    }
+
+    @Test
+    public void S3Service_GeneratePresignedUrls_SignsEachKeyOnceWithReuseWindow() {
+        S3ServiceImpl signingService = signingService(List.of("a.jpg", "b.jpg"));
+
+        Map<String, String> urls = signingService.generatePresignedUrls(List.of("a.jpg", "b.jpg", "a.jpg"), 60);
+
+        Assertions.assertThat(urls).containsOnlyKeys("a.jpg", "b.jpg");
+        Assertions.assertThat(urls.get("a.jpg")).contains("/a.jpg?").contains("X-Amz-Expires=4200");
+        Assertions.assertThat(signingService.generatePresignedUrl("a.jpg", 60)).isEqualTo(urls.get("a.jpg"));
+    }
+
+    @Test
+    public void S3Service_GeneratePresignedUrls_SignsOnlyStoredImagesAndRenditions() {
+        S3ServiceImpl signingService = signingService(List.of("a.jpg"));
+
+        Map<String, String> urls = signingService.generatePresignedUrls(
+                List.of("a.jpg", "a.jpg.thumbnail.jpg", "secrets/backup.sql"), 60);
+
+        Assertions.assertThat(urls).containsOnlyKeys("a.jpg", "a.jpg.thumbnail.jpg");
+    }
+
+    private S3ServiceImpl signingService(List<String> storedKeys) {
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.EU_NORTH_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("dummy", "dummy")))
+                .build();
+        ImageRepository imageRepository = Mockito.mock(ImageRepository.class);
+        List<String> storedUrls = storedKeys.stream()
+                .map(key -> "https://bookinline.s3.eu-north-1.amazonaws.com/" + key)
+                .toList();
+        Mockito.when(imageRepository.findExistingImageUrls(Mockito.anyCollection())).thenAnswer(invocation ->
+                storedUrls.stream().filter(invocation.<Collection<String>>getArgument(0)::contains).toList());
+        S3ServiceImpl signingService = new S3ServiceImpl(s3Client, presigner,
+                new PresignedUrlCache(true, Duration.ofMinutes(10), 100, new SimpleMeterRegistry()),
+                imageRepository, executor, 2, DataSize.ofMegabytes(8), DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(signingService, "bucket", "bookinline");
+        ReflectionTestUtils.setField(signingService, "region", "eu-north-1");
+        return signingService;
+    }
+
+    private MockMultipartFile image(String name, int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) i;
+        }
+        return new MockMultipartFile("images", name, "image/jpeg", content);
+    }
+}
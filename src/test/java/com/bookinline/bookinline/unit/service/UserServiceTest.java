@@ -7,6 +7,7 @@ import com.bookinline.bookinline.entity.enums.Role;
 import com.bookinline.bookinline.entity.enums.UserStatus;
 import com.bookinline.bookinline.repository.BookingRepository;
 import com.bookinline.bookinline.repository.UserRepository;
+import com.bookinline.bookinline.security.PrincipalCache;
 import com.bookinline.bookinline.service.impl.UserServiceImpl;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,8 @@ public class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private BookingRepository bookingRepository;
+    @Mock
+    private PrincipalCache principalCache;
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -0,0 +1,4 @@
+ALTER TABLE booking ADD COLUMN created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+CREATE INDEX booking_pending_created_at_idx ON booking (status, created_at);
+CREATE INDEX booking_pending_check_in_idx ON booking (status, check_in_date);
@@ -0,0 +1 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1 @@
+CREATE INDEX image_url_idx ON image (image_url);
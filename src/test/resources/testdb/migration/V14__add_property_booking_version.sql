@@ -0,0 +1 @@
+ALTER TABLE property ADD COLUMN booking_version BIGINT DEFAULT 0 NOT NULL;
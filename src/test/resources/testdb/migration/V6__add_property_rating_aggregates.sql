@@ -0,0 +1,2 @@
+ALTER TABLE property ADD COLUMN review_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE property ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
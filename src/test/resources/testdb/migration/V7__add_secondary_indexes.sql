@@ -0,0 +1,16 @@
+-- H2 has neither partial nor expression indexes; the names match the PostgreSQL migration.
+CREATE INDEX booking_property_active_stay_idx ON booking (property_id, check_in_date, check_out_date);
+CREATE INDEX booking_property_status_idx ON booking (property_id, status);
+CREATE INDEX booking_status_check_out_idx ON booking (status, check_out_date);
+CREATE INDEX booking_guest_status_idx ON booking (guest_id, status);
+
+CREATE INDEX property_host_idx ON property (host_id);
+CREATE INDEX property_available_city_idx ON property (available, city);
+CREATE INDEX property_type_idx ON property (property_type);
+
+CREATE INDEX review_property_author_idx ON review (property_id, author_id);
+CREATE INDEX review_author_idx ON review (author_id);
+
+CREATE INDEX image_property_idx ON image (property_id);
+
+CREATE INDEX users_status_idx ON users (status);
@@ -0,0 +1,7 @@
+ALTER TABLE image ADD COLUMN thumbnail_url VARCHAR(255);
+ALTER TABLE image ADD COLUMN medium_url VARCHAR(255);
+ALTER TABLE image ADD COLUMN derivative_status VARCHAR(20) DEFAULT 'PENDING' NOT NULL;
+ALTER TABLE image ADD COLUMN derivative_attempts INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE image ADD COLUMN derivative_claimed_at TIMESTAMP;
+
+CREATE INDEX image_derivative_queue_idx ON image (derivative_status);